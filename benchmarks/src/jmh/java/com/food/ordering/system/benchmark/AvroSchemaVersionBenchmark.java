@@ -0,0 +1,102 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Binary encoding of a restaurant approval request with string uuids (v1) against 16 byte fixed uuids (v2). Running
+ * the class itself from the jmh jar prints the encoded payload size of both versions for every item count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AvroSchemaVersionBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    @Param({"v1", "v2"})
+    private String schemaVersion;
+
+    private SpecificRecordBase record;
+    private SpecificDatumWriter<SpecificRecordBase> writer;
+    private SpecificDatumReader<SpecificRecordBase> reader;
+    private ByteArrayOutputStream out;
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        record = restaurantApprovalRequest(schemaVersion, itemCount);
+        writer = new SpecificDatumWriter<>(record.getSchema());
+        reader = new SpecificDatumReader<>(record.getSchema());
+        out = new ByteArrayOutputStream(1024);
+        payload = serialize();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        out.reset();
+        encoder = EncoderFactory.get().binaryEncoder(out, encoder);
+        writer.write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public SpecificRecordBase deserialize() throws IOException {
+        decoder = DecoderFactory.get().binaryDecoder(payload, decoder);
+        return reader.read(null, decoder);
+    }
+
+    public static void main(String[] args) throws IOException {
+        for (int itemCount : new int[]{1, 10, 50}) {
+            for (String schemaVersion : List.of("v1", "v2")) {
+                AvroSchemaVersionBenchmark benchmark = new AvroSchemaVersionBenchmark();
+                benchmark.schemaVersion = schemaVersion;
+                benchmark.itemCount = itemCount;
+                benchmark.setUp();
+                System.out.printf("%s restaurant approval request with %d items: %d bytes%n",
+                        schemaVersion, itemCount, benchmark.payload.length);
+            }
+        }
+    }
+
+    private static SpecificRecordBase restaurantApprovalRequest(String schemaVersion, int itemCount) {
+        IdGenerator idGenerator = new TimeOrderedIdGenerator();
+        OrderMessagingDataMapper orderMessagingDataMapper =
+                new OrderMessagingDataMapper(idGenerator, new OrderServiceConfigData());
+        Order order = OrderFixtures.newOrder(OrderFixtures.orderItems(itemCount));
+        order.initializeOrder(idGenerator, new RandomIdGenerator());
+        OrderPaidEvent orderPaidEvent = new OrderPaidEvent(order, Instant.now());
+        return "v1".equals(schemaVersion)
+                ? orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(orderPaidEvent)
+                : orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModelV2(orderPaidEvent);
+    }
+}
@@ -0,0 +1,116 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.serde.CachedAvroSerdeConfig;
+import com.food.ordering.system.kafka.serde.CachedSchemaAvroDeserializer;
+import com.food.ordering.system.kafka.serde.CachedSchemaAvroSerializer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The cached serde against a serializer that allocates its output stream and encoder per record, the way the schema
+ * registry serializer does. Uses the local schema store, so it runs without a registry. Run with the gc profiler to
+ * compare gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CachedSchemaAvroSerdeBenchmark {
+
+    private static final String TOPIC = "restaurant-approval-request";
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private Path schemaStorePath;
+    private RestaurantApprovalRequestAvroModel record;
+    private CachedSchemaAvroSerializer serializer;
+    private CachedSchemaAvroDeserializer deserializer;
+    private SpecificDatumWriter<RestaurantApprovalRequestAvroModel> datumWriter;
+    private byte[] payload;
+    private int schemaId;
+
+    @Setup
+    public void setUp() throws IOException {
+        IdGenerator idGenerator = new TimeOrderedIdGenerator();
+        Order order = OrderFixtures.newOrder(OrderFixtures.orderItems(itemCount));
+        order.initializeOrder(idGenerator, new RandomIdGenerator());
+        record = new OrderMessagingDataMapper(idGenerator, new OrderServiceConfigData())
+                .orderPaidEventToRestaurantApprovalRequestAvroModel(new OrderPaidEvent(order, Instant.now()));
+
+        schemaStorePath = Files.createTempDirectory("avro-schemas");
+        Map<String, Object> configs = Map.of(
+                CachedAvroSerdeConfig.SCHEMA_STORE_PATH, schemaStorePath.toString(),
+                CachedAvroSerdeConfig.PINNED_RECORD_CLASSES, RestaurantApprovalRequestAvroModel.class.getName());
+        serializer = new CachedSchemaAvroSerializer();
+        serializer.configure(configs, false);
+        deserializer = new CachedSchemaAvroDeserializer();
+        deserializer.configure(configs, false);
+
+        datumWriter = new SpecificDatumWriter<>(RestaurantApprovalRequestAvroModel.getClassSchema());
+        payload = serializer.serialize(TOPIC, record);
+        schemaId = (payload[1] & 0xff) << 24 | (payload[2] & 0xff) << 16 | (payload[3] & 0xff) << 8 | payload[4] & 0xff;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        serializer.close();
+        deserializer.close();
+        try (Stream<Path> files = Files.walk(schemaStorePath)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] cachedSerialize() {
+        return serializer.serialize(TOPIC, record);
+    }
+
+    @Benchmark
+    public byte[] allocatingSerialize() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0);
+        out.write(schemaId >>> 24);
+        out.write(schemaId >>> 16);
+        out.write(schemaId >>> 8);
+        out.write(schemaId);
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        datumWriter.write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public SpecificRecordBase cachedDeserialize() {
+        return deserializer.deserialize(TOPIC, payload);
+    }
+}
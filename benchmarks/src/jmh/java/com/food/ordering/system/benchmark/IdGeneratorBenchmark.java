@@ -0,0 +1,68 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Random vs time-ordered ids. {@code generate} measures contended throughput; {@code insertIntoIndex} inserts a
+ * pre-generated key set into a sorted index as a stand-in for the orders primary-key B-tree, where time-ordered keys
+ * always land on the right-most path instead of scattering over the whole tree.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGeneratorBenchmark {
+
+    private static final int INDEX_SIZE = 100_000;
+
+    @Param({"random", "time-ordered"})
+    private String generator;
+
+    private IdGenerator idGenerator;
+    private UUID[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        idGenerator = "random".equals(generator) ? new RandomIdGenerator() : new TimeOrderedIdGenerator();
+    }
+
+    @Setup(Level.Iteration)
+    public void generateKeys() {
+        keys = new UUID[INDEX_SIZE];
+        for (int i = 0; i < INDEX_SIZE; i++) {
+            keys[i] = idGenerator.generate();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    public UUID generate() {
+        return idGenerator.generate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OperationsPerInvocation(INDEX_SIZE)
+    public TreeMap<UUID, Integer> insertIntoIndex() {
+        TreeMap<UUID, Integer> index = new TreeMap<>();
+        for (int i = 0; i < INDEX_SIZE; i++) {
+            index.put(keys[i], i);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,141 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.ProductId;
+import com.food.ordering.system.domain.vo.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.vo.StreetAddress;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Validating a 50-item order with the long based {@link Money} against the previous BigDecimal based
+ * implementation. Run with the gc profiler to compare gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private static final int ITEM_COUNT = 50;
+
+    private Order order;
+    private LegacyMoney legacyPrice;
+    private List<LegacyOrderItem> legacyItems;
+
+    @Setup
+    public void setUp() {
+        List<OrderItem> items = new ArrayList<>(ITEM_COUNT);
+        legacyItems = new ArrayList<>(ITEM_COUNT);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            BigDecimal price = new BigDecimal("12.35").add(BigDecimal.valueOf(i));
+            int quantity = i % 3 + 1;
+            BigDecimal subTotal = price.multiply(BigDecimal.valueOf(quantity));
+            total = total.add(subTotal);
+
+            items.add(OrderItem.Builder.builder()
+                    .product(new Product(new ProductId(UUID.randomUUID()), "product-" + i, new Money(price)))
+                    .price(new Money(price))
+                    .quantity(quantity)
+                    .subTotal(new Money(subTotal))
+                    .build());
+            legacyItems.add(new LegacyOrderItem(new LegacyMoney(price), new LegacyMoney(price), quantity,
+                    new LegacyMoney(subTotal)));
+        }
+
+        order = Order.OrderBuilder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+                .price(new Money(total))
+                .items(items)
+                .build();
+        legacyPrice = new LegacyMoney(total);
+    }
+
+    @Benchmark
+    public Order validateOrderLongMoney() {
+        order.validateOrder();
+        return order;
+    }
+
+    @Benchmark
+    public boolean validateOrderBigDecimalMoney() {
+        if (!legacyPrice.isGreaterThanZero()) {
+            throw new IllegalStateException("Total price must be greater than zero");
+        }
+        LegacyMoney orderItemsTotal = legacyItems.stream().map(orderItem -> {
+            if (!orderItem.isPriceValid()) {
+                throw new IllegalStateException("Order item price is not valid");
+            }
+            return orderItem.subTotal();
+        }).reduce(LegacyMoney.ZERO, LegacyMoney::add);
+
+        if (!legacyPrice.equals(orderItemsTotal)) {
+            throw new IllegalStateException("Total price is not equal to price for items");
+        }
+        return true;
+    }
+
+    /**
+     * Copy of the BigDecimal based Money this benchmark compares against.
+     */
+    static final class LegacyMoney {
+        static final LegacyMoney ZERO = new LegacyMoney(BigDecimal.ZERO);
+
+        private final BigDecimal amount;
+
+        LegacyMoney(BigDecimal amount) {
+            this.amount = setScale(amount);
+        }
+
+        boolean isGreaterThanZero() {
+            return amount.compareTo(BigDecimal.ZERO) > 0;
+        }
+
+        LegacyMoney add(LegacyMoney money) {
+            return new LegacyMoney(setScale(amount.add(money.amount)));
+        }
+
+        LegacyMoney multiply(int multiplier) {
+            return new LegacyMoney(setScale(amount.multiply(new BigDecimal(multiplier))));
+        }
+
+        private static BigDecimal setScale(BigDecimal input) {
+            return input.setScale(2, RoundingMode.HALF_EVEN);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof LegacyMoney && amount.equals(((LegacyMoney) o).amount);
+        }
+
+        @Override
+        public int hashCode() {
+            return amount.hashCode();
+        }
+    }
+
+    record LegacyOrderItem(LegacyMoney productPrice, LegacyMoney price, int quantity, LegacyMoney subTotal) {
+        boolean isPriceValid() {
+            return price.isGreaterThanZero()
+                    && price.equals(productPrice)
+                    && price.multiply(quantity).equals(subTotal);
+        }
+    }
+}
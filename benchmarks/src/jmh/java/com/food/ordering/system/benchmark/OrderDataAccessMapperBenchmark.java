@@ -0,0 +1,47 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderDataAccessMapperBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private OrderDataAccessMapper orderDataAccessMapper;
+    private Order order;
+    private OrderEntity orderEntity;
+
+    @Setup
+    public void setUp() {
+        orderDataAccessMapper = new OrderDataAccessMapper();
+        order = OrderFixtures.newOrder(OrderFixtures.orderItems(itemCount));
+        order.initializeOrder(new TimeOrderedIdGenerator(), new RandomIdGenerator());
+        orderEntity = orderDataAccessMapper.toOrderEntity(order);
+    }
+
+    @Benchmark
+    public OrderEntity toOrderEntity() {
+        return orderDataAccessMapper.toOrderEntity(order);
+    }
+
+    @Benchmark
+    public Order toOrder() {
+        return orderDataAccessMapper.toOrder(orderEntity);
+    }
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderDataMapperBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private OrderDataMapper orderDataMapper;
+    private CreateOrderCommand createOrderCommand;
+
+    @Setup
+    public void setUp() {
+        orderDataMapper = new OrderDataMapper(new TimeOrderedIdGenerator());
+        createOrderCommand = OrderFixtures.createOrderCommand(itemCount);
+    }
+
+    @Benchmark
+    public Order toOrder() {
+        return orderDataMapper.toOrder(createOrderCommand);
+    }
+}
@@ -0,0 +1,51 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private final IdGenerator idGenerator = new TimeOrderedIdGenerator();
+    private final IdGenerator trackingIdGenerator = new RandomIdGenerator();
+    private List<OrderItem> items;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        items = OrderFixtures.orderItems(itemCount);
+        order = OrderFixtures.newOrder(items);
+    }
+
+    @Benchmark
+    public Order validateOrder() {
+        order.validateOrder();
+        return order;
+    }
+
+    // initializeOrder assigns ids, so every invocation works on a freshly built (not yet initialized) order.
+    @Benchmark
+    public Order initializeOrder() {
+        Order newOrder = OrderFixtures.newOrder(items);
+        newOrder.initializeOrder(idGenerator, trackingIdGenerator);
+        return newOrder;
+    }
+}
@@ -0,0 +1,42 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderDomainServiceBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private OrderDomainService orderDomainService;
+    private List<OrderItem> items;
+    private Restaurant restaurant;
+
+    @Setup
+    public void setUp() {
+        orderDomainService = new OrderDomainServiceImpl();
+        items = OrderFixtures.orderItems(itemCount);
+        restaurant = OrderFixtures.restaurant(itemCount);
+    }
+
+    @Benchmark
+    public OrderCreateEvent validateAndInitiateOrder() {
+        return orderDomainService.validateAndInitiateOrder(OrderFixtures.newOrder(items), restaurant);
+    }
+}
@@ -0,0 +1,105 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.ProductId;
+import com.food.ordering.system.domain.vo.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.vo.StreetAddress;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class OrderFixtures {
+
+    private static final BigDecimal BASE_PRICE = new BigDecimal("12.35");
+
+    private OrderFixtures() {
+    }
+
+    static CreateOrderCommand createOrderCommand(int itemCount) {
+        List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> items = new ArrayList<>(itemCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal price = price(i);
+            BigDecimal subTotal = price.multiply(BigDecimal.valueOf(quantity(i)));
+            total = total.add(subTotal);
+            items.add(com.food.ordering.system.order.service.domain.dto.create.OrderItem.builder()
+                    .productId(productId(i))
+                    .quantity(quantity(i))
+                    .price(price)
+                    .subTotal(subTotal)
+                    .build());
+        }
+
+        return CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .address(OrderAddress.builder()
+                        .street("street-1")
+                        .postalCode("1000AB")
+                        .city("city-1")
+                        .build())
+                .price(total)
+                .items(items)
+                .build();
+    }
+
+    static List<OrderItem> orderItems(int itemCount) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal price = price(i);
+            items.add(OrderItem.Builder.builder()
+                    .product(new Product(new ProductId(productId(i)), "product-" + i, new Money(price)))
+                    .price(new Money(price))
+                    .quantity(quantity(i))
+                    .subTotal(new Money(price.multiply(BigDecimal.valueOf(quantity(i)))))
+                    .build());
+        }
+        return items;
+    }
+
+    static Order newOrder(List<OrderItem> items) {
+        long total = 0L;
+        for (OrderItem item : items) {
+            total += item.getSubTotal().getMinorUnits();
+        }
+        return Order.OrderBuilder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street-1", "1000AB", "city-1"))
+                .price(Money.ofMinorUnits(total))
+                .items(items)
+                .build();
+    }
+
+    static Restaurant restaurant(int itemCount) {
+        List<Product> products = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            products.add(new Product(new ProductId(productId(i)), "product-" + i, new Money(price(i))));
+        }
+        return Restaurant.Builder.builder()
+                .id(new RestaurantId(UUID.randomUUID()))
+                .products(products)
+                .active(true)
+                .build();
+    }
+
+    private static UUID productId(int index) {
+        return new UUID(0L, index);
+    }
+
+    private static BigDecimal price(int index) {
+        return BASE_PRICE.add(BigDecimal.valueOf(index));
+    }
+
+    private static int quantity(int index) {
+        return index % 3 + 1;
+    }
+}
@@ -0,0 +1,70 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.order.service.domain.OrderLookupExecutor;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Customer + restaurant lookups in series vs. overlapped on {@link OrderLookupExecutor}. Each lookup is a blocking
+ * stand-in for a local Postgres round trip (base latency plus up to 50% jitter); SampleTime reports p50/p99.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class OrderLookupLatencyBenchmark {
+
+    @Param({"500", "2000"})
+    private long roundTripMicros;
+
+    private OrderLookupExecutor orderLookupExecutor;
+
+    @Setup
+    public void setUp() {
+        orderLookupExecutor = new OrderLookupExecutor(new OrderServiceConfigData());
+    }
+
+    @TearDown
+    public void tearDown() {
+        orderLookupExecutor.close();
+    }
+
+    @Benchmark
+    public void sequentialLookups() {
+        findCustomer();
+        findRestaurant();
+    }
+
+    @Benchmark
+    public void parallelLookups() {
+        CompletableFuture<Void> customerCheck = CompletableFuture.runAsync(this::findCustomer, orderLookupExecutor);
+        findRestaurant();
+        customerCheck.join();
+    }
+
+    private void findCustomer() {
+        roundTrip();
+    }
+
+    private void findRestaurant() {
+        roundTrip();
+    }
+
+    private void roundTrip() {
+        long jitter = ThreadLocalRandom.current().nextLong(roundTripMicros / 2 + 1);
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros + jitter));
+    }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModelV2;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMessagingDataMapperBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private OrderMessagingDataMapper orderMessagingDataMapper;
+    private OrderCreateEvent orderCreateEvent;
+
+    @Setup
+    public void setUp() {
+        IdGenerator idGenerator = new TimeOrderedIdGenerator();
+        orderMessagingDataMapper = new OrderMessagingDataMapper(idGenerator, new OrderServiceConfigData());
+        Order order = OrderFixtures.newOrder(OrderFixtures.orderItems(itemCount));
+        order.initializeOrder(idGenerator, new RandomIdGenerator());
+        orderCreateEvent = new OrderCreateEvent(order, Instant.now());
+    }
+
+    @Benchmark
+    public PaymentRequestAvroModel orderCreateEventToPaymentRequestAvroModel() {
+        return orderMessagingDataMapper.orderCreateEventToPaymentRequestAvroModel(orderCreateEvent);
+    }
+
+    @Benchmark
+    public PaymentRequestAvroModelV2 orderCreateEventToPaymentRequestAvroModelV2() {
+        return orderMessagingDataMapper.orderCreateEventToPaymentRequestAvroModelV2(orderCreateEvent);
+    }
+}
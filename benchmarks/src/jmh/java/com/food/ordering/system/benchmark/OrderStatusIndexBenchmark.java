@@ -0,0 +1,86 @@
+package com.food.ordering.system.benchmark;
+
+import com.food.ordering.system.order.service.dataaccess.order.index.MappedOrderStatusIndex;
+import com.food.ordering.system.order.service.dataaccess.order.index.MappedOrderStatusIndex.OrderStatusRecord;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Lookups on a {@link MappedOrderStatusIndex} filled to half its capacity. The {@code readWrite} group runs seven
+ * readers next to one writer updating statuses, the shape of tracking reads against saga writes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderStatusIndexBenchmark {
+
+    @Param({"1048576", "16777216"})
+    private int capacity;
+
+    private Path path;
+    private MappedOrderStatusIndex index;
+    private UUID[] trackingIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Files.createTempFile("order-status", ".idx");
+        index = MappedOrderStatusIndex.open(path, capacity, 0.75);
+        trackingIds = new UUID[capacity / 2];
+        for (int i = 0; i < trackingIds.length; i++) {
+            trackingIds[i] = UUID.randomUUID();
+            index.put(trackingIds[i], trackingIds[i], 0, i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public OrderStatusRecord get() {
+        return index.get(trackingIds[ThreadLocalRandom.current().nextInt(trackingIds.length)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public OrderStatusRecord getMissing() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return index.get(new UUID(random.nextLong(), random.nextLong()));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(7)
+    public OrderStatusRecord readWhileUpdating() {
+        return get();
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public boolean update() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID trackingId = trackingIds[random.nextInt(trackingIds.length)];
+        return index.put(trackingId, trackingId, random.nextInt(5), System.currentTimeMillis());
+    }
+}
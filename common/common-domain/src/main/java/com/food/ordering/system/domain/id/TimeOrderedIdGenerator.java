@@ -0,0 +1,88 @@
+package com.food.ordering.system.domain.id;
+
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUIDv7 layout: 48-bit unix millis, version, 12-bit counter, variant and 62 random bits.
+ * <p>
+ * The millis and counter advance together through a CAS on one long, so ids handed out by this generator are
+ * strictly increasing across threads; a burst above 4096 ids per millisecond borrows from the next millisecond.
+ * The random bits come from a per-thread DRBG instead of the shared {@code UUID.randomUUID()} SecureRandom, so
+ * threads do not contend on one lock. The ids expose their creation time and the counter, use them for keys only and
+ * not for ids shown to customers.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    private static final ThreadLocal<RandomBuffer> RANDOM_BUFFER = ThreadLocal.withInitial(RandomBuffer::new);
+
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+    private final LongSupplier currentTimeMillis;
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public UUID generate() {
+        long timestampAndCounter = nextTimestampAndCounter();
+        long mostSigBits = ((timestampAndCounter >>> COUNTER_BITS) << 16)
+                | VERSION_7
+                | (timestampAndCounter & COUNTER_MASK);
+        long leastSigBits = (RANDOM_BUFFER.get().nextLong() & VARIANT_MASK) | VARIANT_RFC_4122;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextTimestampAndCounter() {
+        long now = currentTimeMillis.getAsLong() << COUNTER_BITS;
+        while (true) {
+            long last = lastTimestampAndCounter.get();
+            long next = now > last ? now : last + 1;
+            if (lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static final class RandomBuffer {
+        private static final int BUFFERED_LONGS = 32;
+
+        private final SecureRandom secureRandom = newSecureRandom();
+        private final byte[] bytes = new byte[BUFFERED_LONGS * Long.BYTES];
+        private final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        private RandomBuffer() {
+            secureRandom.nextBytes(bytes);
+        }
+
+        long nextLong() {
+            if (!buffer.hasRemaining()) {
+                secureRandom.nextBytes(bytes);
+                buffer.clear();
+            }
+            return buffer.getLong();
+        }
+
+        private static SecureRandom newSecureRandom() {
+            try {
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
+        }
+    }
+}
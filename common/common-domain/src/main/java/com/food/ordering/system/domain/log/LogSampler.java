@@ -0,0 +1,25 @@
+package com.food.ordering.system.domain.log;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets at most one caller per interval through, for debug output that would otherwise be written for every message.
+ * Check the log level first so the common path costs only that check.
+ */
+public final class LogSampler {
+
+    private final long intervalNanos;
+    private final AtomicLong nextSampleAt;
+
+    public LogSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextSampleAt = new AtomicLong(System.nanoTime());
+    }
+
+    public boolean sample() {
+        long now = System.nanoTime();
+        long next = nextSampleAt.get();
+        return now - next >= 0 && nextSampleAt.compareAndSet(next, now + intervalNanos);
+    }
+}
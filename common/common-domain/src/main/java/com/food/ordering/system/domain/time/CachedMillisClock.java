@@ -0,0 +1,51 @@
+package com.food.ordering.system.domain.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Millisecond clock that hands out the same Instant for every call within one millisecond, so stamping events costs
+ * a currentTimeMillis read and, at most once per millisecond, one allocation.
+ */
+public class CachedMillisClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant lastInstant = Instant.EPOCH;
+
+    public CachedMillisClock() {
+        this(ZoneOffset.UTC);
+    }
+
+    public CachedMillisClock(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CachedMillisClock(zone);
+    }
+
+    @Override
+    public long millis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public Instant instant() {
+        long now = System.currentTimeMillis();
+        Instant last = lastInstant;
+        if (last.toEpochMilli() == now) {
+            return last;
+        }
+        Instant current = Instant.ofEpochMilli(now);
+        lastInstant = current;
+        return current;
+    }
+}
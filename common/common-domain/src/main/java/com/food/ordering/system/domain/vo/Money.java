@@ -3,44 +3,61 @@ package com.food.ordering.system.domain.vo;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 
 
-@Getter
+/**
+ * Amount kept as minor units (scale 2) in a long. Arithmetic is exact and overflow-checked, and
+ * {@link #getAmount()} converts back to the BigDecimal used by JPA entities and Avro decimal fields.
+ */
 @EqualsAndHashCode
 public class Money {
-    private final BigDecimal amount;
+    private static final int SCALE = 2;
+
+    private final long minorUnits;
 
     public Money(BigDecimal amount) {
-        this.amount = setScale(amount);
+        this.minorUnits = toMinorUnits(amount);
+    }
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
     }
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    public static final Money ZERO = new Money(0L);
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
 
     public boolean isGreaterThanZero() {
-        return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return this.minorUnits > 0L;
     }
 
     public boolean isGreaterThan(Money money) {
-        return this.amount != null && this.amount.compareTo(money.getAmount()) > 0;
+        return this.minorUnits > money.minorUnits;
     }
 
     public Money add(Money money) {
-        BigDecimal addAmount = this.amount.add(money.getAmount());
-        return new Money(setScale(addAmount));
+        return ofMinorUnits(Math.addExact(this.minorUnits, money.minorUnits));
     }
 
     public Money subtract(Money money) {
-        BigDecimal subtract = this.amount.subtract(money.getAmount());
-        return new Money(setScale(subtract));
+        return ofMinorUnits(Math.subtractExact(this.minorUnits, money.minorUnits));
     }
 
     public Money multiply(int multiplier) {
-        BigDecimal multiplyAmount = this.amount.multiply(new BigDecimal(multiplier));
-        return new Money(setScale(multiplyAmount));
+        return ofMinorUnits(Math.multiplyExact(this.minorUnits, (long) multiplier));
     }
 
-    private BigDecimal setScale(BigDecimal input) {
-        return input.setScale(2, RoundingMode.HALF_EVEN);
+    private static long toMinorUnits(BigDecimal input) {
+        return input.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.food.ordering.system.domain.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedIdGeneratorTest {
+
+    private static final long MILLIS = 1_700_000_000_000L;
+
+    @Test
+    public void testIdsAreUniqueAndIncreasingPerThreadUnderContention() throws Exception {
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator();
+        int threads = 8;
+        int idsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<UUID> ids = new ArrayList<>(idsPerThread);
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(idGenerator.generate());
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<UUID> allIds = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> ids = future.get(30, TimeUnit.SECONDS);
+                for (int i = 1; i < ids.size(); i++) {
+                    assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+                }
+                allIds.addAll(ids);
+            }
+            assertThat(allIds).hasSize(threads * idsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCounterOverflowBorrowsFromTheNextMillisecond() {
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(() -> MILLIS);
+
+        UUID previous = idGenerator.generate();
+        assertThat(timestamp(previous)).isEqualTo(MILLIS);
+        assertThat(counter(previous)).isZero();
+        for (int i = 1; i < 4096; i++) {
+            UUID id = idGenerator.generate();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(timestamp(id)).isEqualTo(MILLIS);
+            assertThat(counter(id)).isEqualTo(i);
+            previous = id;
+        }
+
+        UUID overflow = idGenerator.generate();
+        assertThat(overflow).isGreaterThan(previous);
+        assertThat(timestamp(overflow)).isEqualTo(MILLIS + 1);
+        assertThat(counter(overflow)).isZero();
+    }
+
+    @Test
+    public void testClockGoingBackwardsKeepsIdsIncreasing() {
+        long[] now = {MILLIS};
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(() -> now[0]);
+
+        UUID first = idGenerator.generate();
+        now[0] = MILLIS - 1_000;
+        UUID second = idGenerator.generate();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(timestamp(second)).isEqualTo(MILLIS);
+    }
+
+    @Test
+    public void testVersionAndVariantBits() {
+        UUID id = new TimeOrderedIdGenerator().generate();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    private static long timestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static long counter(UUID id) {
+        return id.getMostSignificantBits() & 0xFFF;
+    }
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.kafka.admin;
+
+/**
+ * A topic a service declares, {@code consumed} when one of its listener containers subscribes to it. Topics the service
+ * only produces to, or reads on demand like dead-letter topics, are not checked against the listener concurrency.
+ */
+public record DeclaredTopic(String name, boolean consumed) {
+
+    public static DeclaredTopic consumed(String name) {
+        return new DeclaredTopic(name, true);
+    }
+
+    public static DeclaredTopic produceOnly(String name) {
+        return new DeclaredTopic(name, false);
+    }
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.kafka.admin;
+
+import java.util.Collection;
+
+/**
+ * Implemented by services to name the topics they produce to or consume from, {@link KafkaTopicProvisioner} creates
+ * them with the partition count and replication factor of kafka-config.
+ */
+public interface KafkaTopicDeclarations {
+
+    Collection<DeclaredTopic> topics();
+}
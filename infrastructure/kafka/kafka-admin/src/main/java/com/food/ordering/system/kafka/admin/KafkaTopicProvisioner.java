@@ -0,0 +1,183 @@
+package com.food.ordering.system.kafka.admin;
+
+import com.food.ordering.system.kafaka.config.data.KafkaConfigData;
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the declared topics that are missing and checks the partition count of the existing ones against
+ * kafka-config.num-of-partitions before the listener containers start. Topics below the target are only grown when
+ * kafka-config.partition-growth-enabled is set. Only topics a listener container subscribes to are checked against the
+ * listener concurrency. Like Spring's KafkaAdmin it logs instead of failing the startup when the brokers can not be
+ * reached.
+ */
+@Slf4j
+@Component
+public class KafkaTopicProvisioner implements SmartInitializingSingleton {
+
+    private final KafkaConfigData kafkaConfigData;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final List<KafkaTopicDeclarations> kafkaTopicDeclarations;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TopicPartitionReport> reports = new ConcurrentHashMap<>();
+
+    public KafkaTopicProvisioner(KafkaConfigData kafkaConfigData,
+                                 KafkaConsumerConfigData kafkaConsumerConfigData,
+                                 List<KafkaTopicDeclarations> kafkaTopicDeclarations,
+                                 MeterRegistry meterRegistry) {
+        this.kafkaConfigData = kafkaConfigData;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.kafkaTopicDeclarations = kafkaTopicDeclarations;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!kafkaConfigData.getTopicProvisioningEnabled()) {
+            return;
+        }
+        Map<String, DeclaredTopic> declaredTopics = declaredTopics();
+        if (declaredTopics.isEmpty()) {
+            return;
+        }
+
+        try (AdminClient adminClient = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers()))) {
+            provision(adminClient, declaredTopics);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Could not provision kafka topics {}: {}", declaredTopics.keySet(), e.getMessage());
+        }
+    }
+
+    public Collection<TopicPartitionReport> getReports() {
+        return List.copyOf(reports.values());
+    }
+
+    /**
+     * Merges the declarations by topic name, a topic is consumed when any declaration consumes it.
+     */
+    Map<String, DeclaredTopic> declaredTopics() {
+        Map<String, DeclaredTopic> declaredTopics = new LinkedHashMap<>();
+        kafkaTopicDeclarations.forEach(declarations -> declarations.topics().forEach(declaredTopic ->
+                declaredTopics.merge(declaredTopic.name(), declaredTopic, (first, second) ->
+                        new DeclaredTopic(first.name(), first.consumed() || second.consumed()))));
+        return declaredTopics;
+    }
+
+    void provision(AdminClient adminClient, Map<String, DeclaredTopic> declaredTopics)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        Set<String> topicNames = declaredTopics.keySet();
+        int targetPartitions = kafkaConfigData.getNumOfPartitions();
+        Map<String, Integer> partitions = describe(adminClient, topicNames);
+
+        List<NewTopic> missingTopics = new ArrayList<>();
+        Map<String, NewPartitions> grownTopics = new LinkedHashMap<>();
+        for (String topicName : topicNames) {
+            Integer topicPartitions = partitions.get(topicName);
+            if (topicPartitions == null) {
+                missingTopics.add(new NewTopic(topicName, targetPartitions, kafkaConfigData.getReplicationFactor()));
+            } else if (topicPartitions < targetPartitions && kafkaConfigData.getPartitionGrowthEnabled()) {
+                grownTopics.put(topicName, NewPartitions.increaseTo(targetPartitions));
+            }
+        }
+
+        if (!missingTopics.isEmpty()) {
+            createTopics(adminClient, missingTopics);
+            missingTopics.forEach(newTopic -> log.info("Created topic {} with {} partitions",
+                    newTopic.name(), targetPartitions));
+        }
+        if (!grownTopics.isEmpty()) {
+            adminClient.createPartitions(grownTopics).all()
+                    .get(kafkaConfigData.getAdminTimeoutMs(), TimeUnit.MILLISECONDS);
+            grownTopics.keySet().forEach(topicName -> log.warn("Grew topic {} from {} to {} partitions, keys now map "
+                    + "to other partitions and records of one key written before and after the growth can be "
+                    + "processed out of order", topicName, partitions.get(topicName), targetPartitions));
+        }
+
+        report(describe(adminClient, topicNames), declaredTopics, targetPartitions);
+    }
+
+    private Map<String, Integer> describe(AdminClient adminClient, Set<String> topicNames)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        Map<String, Integer> partitions = new LinkedHashMap<>();
+        for (Map.Entry<String, KafkaFuture<TopicDescription>> description
+                : adminClient.describeTopics(topicNames).values().entrySet()) {
+            try {
+                TopicDescription topicDescription = description.getValue()
+                        .get(kafkaConfigData.getAdminTimeoutMs(), TimeUnit.MILLISECONDS);
+                partitions.put(description.getKey(), topicDescription.partitions().size());
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+                    throw e;
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private void createTopics(AdminClient adminClient, List<NewTopic> newTopics)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+            adminClient.createTopics(newTopics).all().get(kafkaConfigData.getAdminTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // another instance created them in the meantime
+            if (!(e.getCause() instanceof TopicExistsException)) {
+                throw e;
+            }
+        }
+    }
+
+    private void report(Map<String, Integer> partitions, Map<String, DeclaredTopic> declaredTopics,
+                        int targetPartitions) {
+        int configuredConcurrency = kafkaConsumerConfigData.getConcurrencyLevel();
+        partitions.forEach((topicName, topicPartitions) -> {
+            boolean consumed = declaredTopics.get(topicName).consumed();
+            TopicPartitionReport report = new TopicPartitionReport(topicName, topicPartitions, targetPartitions,
+                    consumed, configuredConcurrency);
+            if (reports.put(topicName, report) == null) {
+                Gauge.builder("kafka.topic.partitions", reports,
+                                currentReports -> currentReports.get(topicName).partitions())
+                        .tag("topic", topicName)
+                        .register(meterRegistry);
+            }
+
+            if (report.isUnderPartitioned()) {
+                log.warn("Topic {} has {} of {} partitions, set kafka-config.partition-growth-enabled to grow it",
+                        topicName, topicPartitions, targetPartitions);
+            }
+            if (!consumed) {
+                log.info("Topic {} has {} partitions", topicName, topicPartitions);
+            } else if (report.hasIdleConsumers()) {
+                log.warn("Listener concurrency {} exceeds the {} partitions of topic {}, {} consumers stay idle",
+                        configuredConcurrency, topicPartitions, topicName, configuredConcurrency - topicPartitions);
+            } else {
+                log.info("Topic {} has {} partitions, listener concurrency {} can grow up to that",
+                        topicName, topicPartitions, configuredConcurrency);
+            }
+        });
+    }
+}
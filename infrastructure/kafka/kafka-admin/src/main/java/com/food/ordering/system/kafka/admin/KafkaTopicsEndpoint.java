@@ -0,0 +1,24 @@
+package com.food.ordering.system.kafka.admin;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/kafkatopics} lists the partition report of the provisioned topics. Has to be exposed through
+ * management.endpoints.web.exposure.include.
+ */
+@Component
+@Endpoint(id = "kafkatopics")
+@RequiredArgsConstructor
+public class KafkaTopicsEndpoint {
+
+    private final KafkaTopicProvisioner kafkaTopicProvisioner;
+
+    @ReadOperation
+    public Collection<TopicPartitionReport> topics() {
+        return kafkaTopicProvisioner.getReports();
+    }
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.kafka.admin;
+
+/**
+ * Partition count of a topic after provisioning. Every consumed topic, retry tiers included, has its own listener
+ * container, which never runs more useful consumers than the topic has partitions, the rest stay idle.
+ */
+public record TopicPartitionReport(String topic,
+                                   int partitions,
+                                   int targetPartitions,
+                                   boolean consumed,
+                                   int configuredConcurrency) {
+
+    public boolean isUnderPartitioned() {
+        return partitions < targetPartitions;
+    }
+
+    public boolean hasIdleConsumers() {
+        return consumed && configuredConcurrency > partitions;
+    }
+}
@@ -0,0 +1,182 @@
+package com.food.ordering.system.kafka.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.kafaka.config.data.KafkaConfigData;
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.CreatePartitionsResult;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KafkaTopicProvisionerTest {
+
+    private static final Node BROKER = new Node(0, "localhost", 9092);
+
+    private KafkaConfigData kafkaConfigData;
+    private KafkaConsumerConfigData kafkaConsumerConfigData;
+    private SimpleMeterRegistry meterRegistry;
+    private AdminClient adminClient;
+    private Map<String, Integer> brokerPartitions;
+    private List<NewTopic> createdTopics;
+    private Map<String, NewPartitions> grownTopics;
+
+    @BeforeEach
+    public void setUp() {
+        kafkaConfigData = new KafkaConfigData();
+        kafkaConfigData.setNumOfPartitions(3);
+        kafkaConfigData.setReplicationFactor((short) 1);
+        kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setConcurrencyLevel(4);
+        meterRegistry = new SimpleMeterRegistry();
+        brokerPartitions = new HashMap<>();
+        createdTopics = new ArrayList<>();
+        grownTopics = new LinkedHashMap<>();
+        adminClient = mockAdminClient();
+    }
+
+    @Test
+    public void testMissingTopicsAreCreatedAndOnlyConsumedTopicsAreCheckedForIdleConsumers() throws Exception {
+        KafkaTopicProvisioner provisioner = provisioner(() -> List.of(
+                DeclaredTopic.produceOnly("payment-request"),
+                DeclaredTopic.consumed("payment-response"),
+                DeclaredTopic.produceOnly("payment-response-dlt")));
+
+        provisioner.provision(adminClient, provisioner.declaredTopics());
+
+        assertThat(createdTopics).extracting(NewTopic::name)
+                .containsExactly("payment-request", "payment-response", "payment-response-dlt");
+        assertThat(createdTopics).allSatisfy(newTopic -> assertThat(newTopic.numPartitions()).isEqualTo(3));
+        Map<String, TopicPartitionReport> reports = reports(provisioner);
+        assertThat(reports.get("payment-response").hasIdleConsumers()).isTrue();
+        assertThat(reports.get("payment-request").hasIdleConsumers()).isFalse();
+        assertThat(reports.get("payment-response-dlt").hasIdleConsumers()).isFalse();
+        assertThat(meterRegistry.get("kafka.topic.partitions").tag("topic", "payment-response").gauge().value())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    public void testUnderPartitionedTopicIsOnlyReportedWhenGrowthIsDisabled() throws Exception {
+        kafkaConfigData.setPartitionGrowthEnabled(false);
+        brokerPartitions.put("payment-response", 1);
+        KafkaTopicProvisioner provisioner = provisioner(() -> List.of(DeclaredTopic.consumed("payment-response")));
+
+        provisioner.provision(adminClient, provisioner.declaredTopics());
+
+        verify(adminClient, never()).createPartitions(anyMap());
+        verify(adminClient, never()).createTopics(anyCollection());
+        TopicPartitionReport report = reports(provisioner).get("payment-response");
+        assertThat(report.partitions()).isEqualTo(1);
+        assertThat(report.isUnderPartitioned()).isTrue();
+    }
+
+    @Test
+    public void testUnderPartitionedTopicGrowsWhenEnabled() throws Exception {
+        kafkaConfigData.setPartitionGrowthEnabled(true);
+        brokerPartitions.put("payment-response", 1);
+        brokerPartitions.put("payment-request", 3);
+        KafkaTopicProvisioner provisioner = provisioner(() -> List.of(
+                DeclaredTopic.consumed("payment-response"),
+                DeclaredTopic.produceOnly("payment-request")));
+
+        provisioner.provision(adminClient, provisioner.declaredTopics());
+
+        assertThat(grownTopics).containsOnlyKeys("payment-response");
+        assertThat(grownTopics.get("payment-response").totalCount()).isEqualTo(3);
+        TopicPartitionReport report = reports(provisioner).get("payment-response");
+        assertThat(report.partitions()).isEqualTo(3);
+        assertThat(report.isUnderPartitioned()).isFalse();
+    }
+
+    @Test
+    public void testTopicIsConsumedWhenAnyDeclarationConsumesIt() {
+        KafkaTopicProvisioner provisioner = new KafkaTopicProvisioner(kafkaConfigData, kafkaConsumerConfigData,
+                List.of(() -> List.of(DeclaredTopic.produceOnly("payment-response")),
+                        () -> List.of(DeclaredTopic.consumed("payment-response"))),
+                meterRegistry);
+
+        assertThat(provisioner.declaredTopics())
+                .containsExactly(Map.entry("payment-response", DeclaredTopic.consumed("payment-response")));
+    }
+
+    private KafkaTopicProvisioner provisioner(KafkaTopicDeclarations kafkaTopicDeclarations) {
+        return new KafkaTopicProvisioner(kafkaConfigData, kafkaConsumerConfigData, List.of(kafkaTopicDeclarations),
+                meterRegistry);
+    }
+
+    private static Map<String, TopicPartitionReport> reports(KafkaTopicProvisioner provisioner) {
+        return provisioner.getReports().stream()
+                .collect(Collectors.toMap(TopicPartitionReport::topic, Function.identity()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private AdminClient mockAdminClient() {
+        AdminClient client = mock(AdminClient.class);
+        when(client.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            Map<String, KafkaFuture<TopicDescription>> descriptions = new LinkedHashMap<>();
+            for (String topicName : (Collection<String>) invocation.getArgument(0)) {
+                descriptions.put(topicName, describe(topicName));
+            }
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.values()).thenReturn(descriptions);
+            return result;
+        });
+        when(client.createTopics(anyCollection())).thenAnswer(invocation -> {
+            for (NewTopic newTopic : (Collection<NewTopic>) invocation.getArgument(0)) {
+                createdTopics.add(newTopic);
+                brokerPartitions.put(newTopic.name(), newTopic.numPartitions());
+            }
+            CreateTopicsResult result = mock(CreateTopicsResult.class);
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+            return result;
+        });
+        when(client.createPartitions(anyMap())).thenAnswer(invocation -> {
+            Map<String, NewPartitions> newPartitions = invocation.getArgument(0);
+            grownTopics.putAll(newPartitions);
+            newPartitions.forEach((topicName, partitions) -> brokerPartitions.put(topicName, partitions.totalCount()));
+            CreatePartitionsResult result = mock(CreatePartitionsResult.class);
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+            return result;
+        });
+        return client;
+    }
+
+    private KafkaFuture<TopicDescription> describe(String topicName) {
+        Integer partitions = brokerPartitions.get(topicName);
+        if (partitions == null) {
+            KafkaFutureImpl<TopicDescription> unknownTopic = new KafkaFutureImpl<>();
+            unknownTopic.completeExceptionally(new UnknownTopicOrPartitionException(topicName));
+            return unknownTopic;
+        }
+        List<TopicPartitionInfo> partitionInfos = new ArrayList<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            partitionInfos.add(new TopicPartitionInfo(partition, BROKER, List.of(BROKER), List.of(BROKER)));
+        }
+        return KafkaFuture.completedFuture(new TopicDescription(topicName, false, partitionInfos));
+    }
+}
@@ -11,6 +11,17 @@ public class KafkaConfigData {
     private String bootstrapServers;
     private String schemaRegistryUrlKey;
     private String schemaRegistryUrl;
+    /**
+     * Directory of the local schema store the cached Avro serde uses when no schema registry url is set.
+     */
+    private String schemaStorePath;
     private Integer numOfPartitions;
     private Short replicationFactor;
+    private Boolean topicProvisioningEnabled = true;
+    /**
+     * Keys move to other partitions when a topic grows, records of one key can be consumed out of order around the
+     * change.
+     */
+    private Boolean partitionGrowthEnabled = false;
+    private Long adminTimeoutMs = 30_000L;
 }
@@ -1,6 +1,8 @@
 package com.food.ordering.system.kafaka.config.data;
 
+import java.util.List;
 import lombok.Data;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,6 +15,8 @@ public class KafkaConsumerConfigData {
     private String autoOffsetReset;
     private String specificAvroReaderKey;
     private String specificAvroReader;
+    private String paymentConsumerGroupId;
+    private String restaurantApprovalConsumerGroupId;
     private Boolean batchListener;
     private Boolean autoStartup;
     private Integer concurrencyLevel;
@@ -23,4 +27,20 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Integer dispatcherParallelism = 4;
+    private Integer dispatcherQueueCapacity = 64;
+    /**
+     * MANUAL or MANUAL_IMMEDIATE let listeners acknowledge after their transactions commit, BATCH commits after the
+     * listener returns.
+     */
+    private AckMode ackMode = AckMode.MANUAL;
+    private Boolean syncCommits = false;
+    /**
+     * One retry topic per entry, each has to stay well below max-poll-interval-ms as the retry listener waits it out.
+     */
+    private List<Long> retryTopicBackoffsMs = List.of(1_000L, 10_000L, 60_000L);
+    private String retryTopicSuffix = "-retry-";
+    private String deadLetterTopicSuffix = "-dlt";
+    private Long retryRouteTimeoutMs = 10_000L;
+    private List<String> pinnedRecordClasses = List.of();
 }
\ No newline at end of file
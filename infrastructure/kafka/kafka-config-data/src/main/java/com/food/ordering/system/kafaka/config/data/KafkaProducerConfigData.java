@@ -1,5 +1,6 @@
 package com.food.ordering.system.kafaka.config.data;
 
+import java.util.List;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -17,4 +18,6 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
+    private String valueSubjectNameStrategy;
+    private List<String> pinnedRecordClasses = List.of();
 }
\ No newline at end of file
@@ -2,7 +2,13 @@ package com.food.ordering.system.kafka.consumer;
 
 import java.util.List;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.kafka.support.Acknowledgment;
 
 public interface KafkaConsumer<T extends SpecificRecordBase> {
-    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets);
+    /**
+     * The acknowledgment is null unless the container runs with a manual ack mode. Implementations acknowledge only
+     * once the batch is committed to the database.
+     */
+    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets,
+                 Acknowledgment acknowledgment);
 }
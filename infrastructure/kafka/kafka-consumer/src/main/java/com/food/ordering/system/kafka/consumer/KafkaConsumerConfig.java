@@ -3,6 +3,7 @@ package com.food.ordering.system.kafka.consumer;
 
 import com.food.ordering.system.kafaka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.serde.CachedAvroSerdeConfig;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -40,6 +41,13 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
                 kafkaConsumerConfigData.getMaxPartitionFetchBytesDefault() *
                         kafkaConsumerConfigData.getMaxPartitionFetchBytesBoostFactor());
         props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, kafkaConsumerConfigData.getMaxPollRecords());
+        // read by CachedSchemaAvroDeserializer only
+        if (kafkaConfigData.getSchemaStorePath() != null) {
+            props.put(CachedAvroSerdeConfig.SCHEMA_STORE_PATH, kafkaConfigData.getSchemaStorePath());
+        }
+        if (!kafkaConsumerConfigData.getPinnedRecordClasses().isEmpty()) {
+            props.put(CachedAvroSerdeConfig.PINNED_RECORD_CLASSES, kafkaConsumerConfigData.getPinnedRecordClasses());
+        }
         return props;
     }
 
@@ -56,6 +64,8 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+        factory.getContainerProperties().setAckMode(kafkaConsumerConfigData.getAckMode());
+        factory.getContainerProperties().setSyncCommits(kafkaConsumerConfigData.getSyncCommits());
         return factory;
     }
 }
@@ -0,0 +1,160 @@
+package com.food.ordering.system.kafka.consumer.dispatch;
+
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits a polled batch into lanes by key and runs the lanes in parallel. Items with the same key always land in the
+ * same lane and keep their order there, so per-key ordering survives the fan-out. {@link #dispatch} returns only when
+ * every lane finished, so the listener returns, and the container commits offsets, after all work is done.
+ *
+ * <p>Lane depth is exported per lane index rather than per key to keep the metric cardinality bounded. When the pool
+ * and its queue are full the consumer thread runs the lane itself.
+ */
+@Slf4j
+@Component
+public class KeyOrderedBatchDispatcher {
+
+    private final int parallelism;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final AtomicInteger[] laneDepths;
+    private final Timer dispatchTimer;
+    private final DistributionSummary batchRecordsSummary;
+
+    public KeyOrderedBatchDispatcher(KafkaConsumerConfigData kafkaConsumerConfigData, MeterRegistry meterRegistry) {
+        this.parallelism = Math.max(1, kafkaConsumerConfigData.getDispatcherParallelism());
+        this.threadPoolExecutor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(kafkaConsumerConfigData.getDispatcherQueueCapacity()),
+                new DispatcherThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+        this.laneDepths = new AtomicInteger[parallelism];
+        for (int lane = 0; lane < parallelism; lane++) {
+            laneDepths[lane] = new AtomicInteger();
+            Gauge.builder("kafka.consumer.dispatch.lane.depth", laneDepths[lane], AtomicInteger::get)
+                    .description("Records waiting or running in a dispatcher lane")
+                    .tag("lane", String.valueOf(lane))
+                    .register(meterRegistry);
+        }
+        this.dispatchTimer = Timer.builder("kafka.consumer.dispatch")
+                .description("Time to process one polled batch across all lanes")
+                .register(meterRegistry);
+        this.batchRecordsSummary = DistributionSummary.builder("kafka.consumer.dispatch.batch.records")
+                .description("Records in one dispatched batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hands each non-empty lane to {@code laneHandler} as one list and waits for all of them. When a lane fails the
+     * other lanes still finish, then the first failure is rethrown so the batch is redelivered.
+     */
+    public <T> void dispatch(List<T> items, Function<T, String> keyFunction, Consumer<List<T>> laneHandler) {
+        if (items.isEmpty()) {
+            return;
+        }
+        batchRecordsSummary.record(items.size());
+        List<List<T>> lanes = splitIntoLanes(items, keyFunction);
+        dispatchTimer.record(() -> runLanes(lanes, laneHandler));
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("Shutting down kafka consumer dispatcher!");
+        threadPoolExecutor.shutdown();
+    }
+
+    private <T> List<List<T>> splitIntoLanes(List<T> items, Function<T, String> keyFunction) {
+        int laneCount = Math.min(parallelism, items.size());
+        List<List<T>> lanes = new ArrayList<>(laneCount);
+        for (int lane = 0; lane < laneCount; lane++) {
+            lanes.add(new ArrayList<>(items.size() / laneCount + 1));
+        }
+        for (T item : items) {
+            lanes.get(Math.floorMod(keyFunction.apply(item).hashCode(), laneCount)).add(item);
+        }
+        return lanes;
+    }
+
+    private <T> void runLanes(List<List<T>> lanes, Consumer<List<T>> laneHandler) {
+        List<CompletableFuture<Void>> laneFutures = new ArrayList<>(lanes.size());
+        List<T> callerLane = null;
+        int callerLaneIndex = -1;
+        for (int lane = 0; lane < lanes.size(); lane++) {
+            List<T> laneItems = lanes.get(lane);
+            if (laneItems.isEmpty()) {
+                continue;
+            }
+            laneDepths[lane].addAndGet(laneItems.size());
+            if (callerLane == null) {
+                // the consumer thread would only wait, so it takes the first lane itself
+                callerLane = laneItems;
+                callerLaneIndex = lane;
+            } else {
+                int laneIndex = lane;
+                laneFutures.add(CompletableFuture.runAsync(
+                        () -> runLane(laneIndex, laneItems, laneHandler), threadPoolExecutor));
+            }
+        }
+
+        RuntimeException failure = null;
+        try {
+            runLane(callerLaneIndex, callerLane, laneHandler);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (CompletableFuture<Void> laneFuture : laneFutures) {
+            try {
+                laneFuture.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <T> void runLane(int lane, List<T> laneItems, Consumer<List<T>> laneHandler) {
+        try {
+            laneHandler.accept(laneItems);
+        } finally {
+            laneDepths[lane].addAndGet(-laneItems.size());
+        }
+    }
+
+    private static final class DispatcherThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "kafka-dispatch-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A received value with what is needed to route it on failure. {@code topic} is the topic the record was first
+ * published to and {@code attempt} the number of failed attempts so far, 0 for records from the main topic.
+ */
+public record ConsumedRecord<V>(String topic, String key, V value, int attempt) {
+
+    public static <V> List<ConsumedRecord<V>> of(String topic, List<String> keys, List<V> values) {
+        List<ConsumedRecord<V>> records = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            records.add(new ConsumedRecord<>(topic, keys.get(i), values.get(i), 0));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code POST /actuator/deadletters/<deadLetterTopic>} with an optional {@code maxRecords} replays a dead-letter topic.
+ * Has to be exposed through management.endpoints.web.exposure.include.
+ */
+@Component
+@Endpoint(id = "deadletters")
+@RequiredArgsConstructor
+public class DeadLetterReplayEndpoint {
+
+    private static final int DEFAULT_MAX_RECORDS = 1000;
+
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    @WriteOperation
+    public Map<String, Object> replay(@Selector String deadLetterTopic, @Nullable Integer maxRecords) {
+        int replayed = deadLetterReplayer.replay(deadLetterTopic,
+                maxRecords != null ? maxRecords : DEFAULT_MAX_RECORDS);
+        return Map.of("topic", deadLetterTopic, "replayed", replayed);
+    }
+}
@@ -0,0 +1,120 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Re-publishes records from a dead-letter topic to the topic they were first published to, without retry headers, so
+ * they go through the listener and its retry tiers again. Progress is kept in the consumer group
+ * {@code <deadLetterTopic>-replay}: each poll is committed once its records are acknowledged, so a replay can be
+ * stopped and resumed.
+ */
+@Slf4j
+@Component
+public class DeadLetterReplayer {
+
+    private static final int MAX_EMPTY_POLLS = 3;
+
+    private final ConsumerFactory<String, SpecificRecordBase> consumerFactory;
+    private final KafkaTemplate<String, SpecificRecordBase> kafkaTemplate;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+
+    public DeadLetterReplayer(ConsumerFactory<String, SpecificRecordBase> consumerFactory,
+                              KafkaTemplate<String, SpecificRecordBase> kafkaTemplate,
+                              KafkaConsumerConfigData kafkaConsumerConfigData) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    }
+
+    /**
+     * Replays up to {@code maxRecords} records and returns how many were replayed. Stops early once the dead-letter
+     * topic is drained.
+     */
+    public synchronized int replay(String deadLetterTopic, int maxRecords) {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(maxRecords, 500));
+
+        int replayed = 0;
+        try (Consumer<String, SpecificRecordBase> consumer =
+                     consumerFactory.createConsumer(deadLetterTopic + "-replay", null, null, properties)) {
+            consumer.subscribe(List.of(deadLetterTopic));
+            int emptyPolls = 0;
+            while (replayed < maxRecords && emptyPolls < MAX_EMPTY_POLLS) {
+                ConsumerRecords<String, SpecificRecordBase> records =
+                        consumer.poll(Duration.ofMillis(kafkaConsumerConfigData.getPollTimeoutMs()));
+                if (records.isEmpty()) {
+                    emptyPolls++;
+                    continue;
+                }
+                emptyPolls = 0;
+
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                List<ListenableFuture<SendResult<String, SpecificRecordBase>>> sendFutures = new ArrayList<>();
+                for (ConsumerRecord<String, SpecificRecordBase> record : records) {
+                    if (replayed == maxRecords) {
+                        break;
+                    }
+                    sendFutures.add(kafkaTemplate.send(
+                            new ProducerRecord<>(originalTopic(record), record.key(), record.value())));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+                awaitSent(sendFutures);
+                consumer.commitSync(offsets);
+            }
+        }
+        log.info("Replayed {} records from dead-letter topic: {}", replayed, deadLetterTopic);
+        return replayed;
+    }
+
+    private String originalTopic(ConsumerRecord<String, SpecificRecordBase> record) {
+        Header header = record.headers().lastHeader(RetryTopicHeaders.ORIGINAL_TOPIC);
+        if (header == null) {
+            throw new KafkaException("Record at offset " + record.offset() + " of " + record.topic()
+                    + " has no " + RetryTopicHeaders.ORIGINAL_TOPIC + " header");
+        }
+        return new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private void awaitSent(List<ListenableFuture<SendResult<String, SpecificRecordBase>>> sendFutures) {
+        try {
+            for (ListenableFuture<SendResult<String, SpecificRecordBase>> sendFuture : sendFutures) {
+                sendFuture.get(kafkaConsumerConfigData.getRetryRouteTimeoutMs(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while replaying dead-letter records", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Dead-letter records could not be replayed", e);
+        }
+    }
+}
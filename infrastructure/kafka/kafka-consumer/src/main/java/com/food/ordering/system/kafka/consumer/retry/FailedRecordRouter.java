@@ -0,0 +1,202 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Non-blocking retries for batch listeners. A failed batch is retried record by record and the records that still fail
+ * are published to {@code <topic>-retry-<backoffMs>}, one topic per entry of
+ * kafka-consumer-config.retry-topic-backoffs-ms, and after the last tier to {@code <topic>-dlt}. The listener then
+ * acknowledges the batch, so one poison record does not hold up its partition. Routing sends are awaited once per
+ * batch; if one fails the batch is redelivered. The tiers are consumed by {@link RetryTopicListenerContainers}.
+ *
+ * <p>Records of a key that was routed follow it to the same topic within the batch without spending an attempt, but
+ * later batches of the main topic may overtake a record waiting in a retry topic.
+ */
+@Slf4j
+@Component
+public class FailedRecordRouter {
+
+    private static final int MAX_EXCEPTION_LENGTH = 1024;
+    private static final String FOLLOWED_KEY = "an earlier record with the same key was routed";
+
+    private final KafkaTemplate<String, SpecificRecordBase> kafkaTemplate;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final MeterRegistry meterRegistry;
+
+    public FailedRecordRouter(KafkaTemplate<String, SpecificRecordBase> kafkaTemplate,
+                              KafkaConsumerConfigData kafkaConsumerConfigData,
+                              MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public String[] retryTopicNames(String topic) {
+        List<Long> backoffs = kafkaConsumerConfigData.getRetryTopicBackoffsMs();
+        String[] retryTopicNames = new String[backoffs.size()];
+        for (int i = 0; i < backoffs.size(); i++) {
+            retryTopicNames[i] = retryTopicName(topic, backoffs.get(i));
+        }
+        return retryTopicNames;
+    }
+
+    public String deadLetterTopicName(String topic) {
+        return topic + kafkaConsumerConfigData.getDeadLetterTopicSuffix();
+    }
+
+    /**
+     * Rebuilds the records of a batch polled from one retry topic and waits until the latest of them is due. The topic
+     * holds records of one backoff, so they arrive roughly in due order and the wait is at most that backoff.
+     */
+    public <V extends SpecificRecordBase> List<ConsumedRecord<V>> awaitRetryRecords(
+            List<ConsumerRecord<String, V>> consumerRecords) {
+        List<ConsumedRecord<V>> records = new ArrayList<>(consumerRecords.size());
+        long dueAt = 0L;
+        for (ConsumerRecord<String, V> consumerRecord : consumerRecords) {
+            Headers headers = consumerRecord.headers();
+            records.add(new ConsumedRecord<>(
+                    RetryTopicHeaders.value(headers, RetryTopicHeaders.ORIGINAL_TOPIC),
+                    consumerRecord.key(),
+                    consumerRecord.value(),
+                    Integer.parseInt(RetryTopicHeaders.value(headers, RetryTopicHeaders.ATTEMPT))));
+            dueAt = Math.max(dueAt, Long.parseLong(RetryTopicHeaders.value(headers, RetryTopicHeaders.DUE_AT)));
+        }
+
+        long waitMs = dueAt - System.currentTimeMillis();
+        if (waitMs > 0) {
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KafkaException("Interrupted while waiting for retry records to be due", e);
+            }
+        }
+        return records;
+    }
+
+    public <V extends SpecificRecordBase> void processOrRoute(List<ConsumedRecord<V>> records,
+                                                              Consumer<List<V>> handler) {
+        List<V> values = new ArrayList<>(records.size());
+        for (ConsumedRecord<V> record : records) {
+            values.add(record.value());
+        }
+        try {
+            handler.accept(values);
+            return;
+        } catch (RuntimeException e) {
+            if (records.size() == 1) {
+                ConsumedRecord<V> record = records.get(0);
+                awaitSent(List.of(send(record, nextRoute(record), record.attempt() + 1, describe(e))));
+                return;
+            }
+            log.warn("Batch of {} records failed, retrying them one by one: {}", records.size(), e.getMessage());
+        }
+
+        Map<String, Route> routedKeys = new HashMap<>();
+        List<ListenableFuture<SendResult<String, SpecificRecordBase>>> sendFutures = new ArrayList<>();
+        for (ConsumedRecord<V> record : records) {
+            Route keyRoute = record.key() != null ? routedKeys.get(record.key()) : null;
+            if (keyRoute != null) {
+                sendFutures.add(send(record, keyRoute, record.attempt(), FOLLOWED_KEY));
+                continue;
+            }
+            try {
+                handler.accept(List.of(record.value()));
+            } catch (RuntimeException e) {
+                Route route = nextRoute(record);
+                sendFutures.add(send(record, route, record.attempt() + 1, describe(e)));
+                if (record.key() != null) {
+                    routedKeys.put(record.key(), route);
+                }
+            }
+        }
+        awaitSent(sendFutures);
+    }
+
+    private Route nextRoute(ConsumedRecord<?> record) {
+        int attempt = record.attempt() + 1;
+        List<Long> backoffs = kafkaConsumerConfigData.getRetryTopicBackoffsMs();
+        if (attempt <= backoffs.size()) {
+            long backoff = backoffs.get(attempt - 1);
+            Counter.builder("kafka.consumer.retries")
+                    .tag("topic", record.topic())
+                    .tag("attempt", String.valueOf(attempt))
+                    .register(meterRegistry)
+                    .increment();
+            return new Route(retryTopicName(record.topic(), backoff), System.currentTimeMillis() + backoff);
+        }
+        Counter.builder("kafka.consumer.dead.letters")
+                .tag("topic", record.topic())
+                .register(meterRegistry)
+                .increment();
+        return new Route(deadLetterTopicName(record.topic()), null);
+    }
+
+    private <V extends SpecificRecordBase> ListenableFuture<SendResult<String, SpecificRecordBase>> send(
+            ConsumedRecord<V> record, Route route, int attempt, String reason) {
+        ProducerRecord<String, SpecificRecordBase> producerRecord =
+                new ProducerRecord<>(route.topic(), record.key(), record.value());
+        if (route.dueAt() != null) {
+            producerRecord.headers().add(RetryTopicHeaders.DUE_AT, RetryTopicHeaders.toBytes(route.dueAt().toString()));
+        }
+        producerRecord.headers().add(RetryTopicHeaders.ORIGINAL_TOPIC, RetryTopicHeaders.toBytes(record.topic()));
+        producerRecord.headers().add(RetryTopicHeaders.ATTEMPT, RetryTopicHeaders.toBytes(String.valueOf(attempt)));
+        producerRecord.headers().add(RetryTopicHeaders.EXCEPTION, RetryTopicHeaders.toBytes(reason));
+
+        log.warn("Record with key: {} from topic: {} with {} failed attempts is routed to {}: {}",
+                record.key(), record.topic(), attempt, route.topic(), reason);
+        return kafkaTemplate.send(producerRecord);
+    }
+
+    private void awaitSent(List<ListenableFuture<SendResult<String, SpecificRecordBase>>> sendFutures) {
+        long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(kafkaConsumerConfigData.getRetryRouteTimeoutMs());
+        for (ListenableFuture<SendResult<String, SpecificRecordBase>> sendFuture : sendFutures) {
+            try {
+                sendFuture.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KafkaException("Interrupted while routing failed records", e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new KafkaException("Failed records could not be routed, the batch will be redelivered", e);
+            }
+        }
+    }
+
+    private String retryTopicName(String topic, long backoffMs) {
+        return topic + kafkaConsumerConfigData.getRetryTopicSuffix() + backoffMs;
+    }
+
+    private String describe(RuntimeException exception) {
+        String description = exception.getClass().getName() + ": " + exception.getMessage();
+        return description.length() > MAX_EXCEPTION_LENGTH ?
+                description.substring(0, MAX_EXCEPTION_LENGTH) :
+                description;
+    }
+
+    /**
+     * Where a failed record goes; {@code dueAt} is null for the dead-letter topic.
+     */
+    private record Route(String topic, Long dueAt) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import java.util.List;
+import org.apache.avro.specific.SpecificRecordBase;
+
+/**
+ * A listener whose failed records are routed by {@link FailedRecordRouter}. {@link RetryTopicListenerContainers}
+ * consumes the retry topics of {@link #topic()} and hands over the records once they are due.
+ */
+public interface RetryTopicConsumer<V extends SpecificRecordBase> {
+
+    /**
+     * The topic the listener consumes, the retry topic names are derived from it.
+     */
+    String topic();
+
+    /**
+     * The consumer group shared by the containers of all retry tiers of the topic.
+     */
+    String retryGroupId();
+
+    void receiveRetry(List<ConsumedRecord<V>> records);
+}
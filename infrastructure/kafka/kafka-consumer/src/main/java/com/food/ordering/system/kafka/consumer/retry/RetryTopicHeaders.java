@@ -0,0 +1,28 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Headers written on records routed to a retry or dead-letter topic. Values are UTF-8 strings.
+ */
+public final class RetryTopicHeaders {
+
+    public static final String ORIGINAL_TOPIC = "x-retry-original-topic";
+    public static final String ATTEMPT = "x-retry-attempt";
+    public static final String DUE_AT = "x-retry-due-at";
+    public static final String EXCEPTION = "x-retry-exception";
+
+    private RetryTopicHeaders() {
+    }
+
+    static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String value(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerContainerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs one listener container per retry topic of every {@link RetryTopicConsumer}, built by the same container factory
+ * as the {@code @KafkaListener} containers. Each container only waits out the backoff of its own tier, so records of a
+ * short tier are not held up behind those of a longer one. The containers of a topic share one consumer group.
+ */
+@Slf4j
+@Component
+public class RetryTopicListenerContainers implements SmartLifecycle {
+
+    private final KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, SpecificRecordBase>>
+            kafkaListenerContainerFactory;
+    private final FailedRecordRouter failedRecordRouter;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final ObjectProvider<RetryTopicConsumer<SpecificRecordBase>> retryTopicConsumers;
+    private final List<ConcurrentMessageListenerContainer<String, SpecificRecordBase>> containers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public RetryTopicListenerContainers(
+            KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, SpecificRecordBase>>
+                    kafkaListenerContainerFactory,
+            FailedRecordRouter failedRecordRouter,
+            KafkaConsumerConfigData kafkaConsumerConfigData,
+            ObjectProvider<RetryTopicConsumer<SpecificRecordBase>> retryTopicConsumers) {
+        this.kafkaListenerContainerFactory = kafkaListenerContainerFactory;
+        this.failedRecordRouter = failedRecordRouter;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.retryTopicConsumers = retryTopicConsumers;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (containers.isEmpty()) {
+            retryTopicConsumers.orderedStream().forEach(this::createContainers);
+        }
+        containers.forEach(ConcurrentMessageListenerContainer::start);
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        log.info("Stopping {} retry topic listener containers!", containers.size());
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return kafkaConsumerConfigData.getAutoStartup();
+    }
+
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE;
+    }
+
+    private void createContainers(RetryTopicConsumer<SpecificRecordBase> retryTopicConsumer) {
+        for (String retryTopicName : failedRecordRouter.retryTopicNames(retryTopicConsumer.topic())) {
+            ConcurrentMessageListenerContainer<String, SpecificRecordBase> container =
+                    kafkaListenerContainerFactory.createContainer(retryTopicName);
+            container.setBeanName(retryTopicName);
+            container.getContainerProperties().setGroupId(retryTopicConsumer.retryGroupId());
+            container.getContainerProperties().setMessageListener(
+                    (BatchAcknowledgingMessageListener<String, SpecificRecordBase>) (records, acknowledgment) -> {
+                        retryTopicConsumer.receiveRetry(failedRecordRouter.awaitRetryRecords(records));
+                        // every record was applied or routed to its next tier at this point
+                        if (acknowledgment != null) {
+                            acknowledgment.acknowledge();
+                        }
+                    });
+            containers.add(container);
+            log.info("Created retry listener container for topic {} in group {}",
+                    retryTopicName, retryTopicConsumer.retryGroupId());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.food.ordering.system.kafka.consumer.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class KeyOrderedBatchDispatcherTest {
+
+    private static final int PARALLELISM = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KeyOrderedBatchDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setDispatcherParallelism(PARALLELISM);
+        kafkaConsumerConfigData.setDispatcherQueueCapacity(16);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new KeyOrderedBatchDispatcher(kafkaConsumerConfigData, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dispatcher.close();
+    }
+
+    @Test
+    public void testItemsOfOneKeyStayInOrderAcrossLanes() {
+        List<Item> items = new ArrayList<>();
+        for (int sequence = 0; sequence < 1_000; sequence++) {
+            items.add(new Item("key-" + sequence % 17, sequence));
+        }
+        Map<String, List<Integer>> seenByKey = new ConcurrentHashMap<>();
+        Map<String, String> threadByKey = new ConcurrentHashMap<>();
+        List<String> laneThreads = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch(items, Item::key, laneItems -> {
+            laneThreads.add(Thread.currentThread().getName());
+            for (Item item : laneItems) {
+                seenByKey.computeIfAbsent(item.key(), key -> new ArrayList<>()).add(item.sequence());
+                assertThat(threadByKey.putIfAbsent(item.key(), Thread.currentThread().getName()))
+                        .isIn(null, Thread.currentThread().getName());
+            }
+        });
+
+        assertThat(laneThreads).hasSize(PARALLELISM);
+        assertThat(seenByKey).hasSize(17);
+        seenByKey.values().forEach(sequences -> assertThat(sequences).isSorted());
+        assertThat(seenByKey.values().stream().mapToInt(List::size).sum()).isEqualTo(items.size());
+    }
+
+    @Test
+    public void testFailingLaneWaitsForOtherLanesAndRethrowsFirstFailure() throws Exception {
+        // "0".."3" hash to lanes 0..3 with four lanes; lane 0 runs on the calling thread
+        List<Item> items = List.of(new Item("0", 0), new Item("1", 1), new Item("2", 2), new Item("3", 3));
+        CountDownLatch laterFailureThrown = new CountDownLatch(1);
+        AtomicBoolean slowLaneFinished = new AtomicBoolean();
+
+        assertThatThrownBy(() -> dispatcher.dispatch(items, Item::key, laneItems -> {
+            switch (laneItems.get(0).key()) {
+                case "0" -> {
+                    await(laterFailureThrown);
+                    throw new IllegalStateException("first lane failed");
+                }
+                case "1" -> {
+                    laterFailureThrown.countDown();
+                    throw new IllegalArgumentException("second lane failed");
+                }
+                case "2" -> {
+                    sleep(200);
+                    slowLaneFinished.set(true);
+                }
+                default -> {
+                }
+            }
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("first lane failed");
+
+        assertThat(slowLaneFinished).isTrue();
+        assertThat(totalLaneDepth()).isZero();
+    }
+
+    @Test
+    public void testLaneDepthsReturnToZero() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch lanesStarted = new CountDownLatch(PARALLELISM);
+        List<Item> items = new ArrayList<>();
+        for (int sequence = 0; sequence < 40; sequence++) {
+            items.add(new Item(String.valueOf(sequence % PARALLELISM), sequence));
+        }
+        Thread consumer = new Thread(() -> dispatcher.dispatch(items, Item::key, laneItems -> {
+            lanesStarted.countDown();
+            await(release);
+        }));
+        consumer.start();
+
+        assertThat(lanesStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(totalLaneDepth()).isEqualTo(items.size());
+        release.countDown();
+        consumer.join(5_000);
+
+        assertThat(consumer.isAlive()).isFalse();
+        assertThat(totalLaneDepth()).isZero();
+        assertThat(meterRegistry.get("kafka.consumer.dispatch.batch.records").summary().count()).isEqualTo(1);
+    }
+
+    private double totalLaneDepth() {
+        return meterRegistry.get("kafka.consumer.dispatch.lane.depth").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Item(String key, int sequence) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+public class FailedRecordRouterTest {
+
+    private static final String TOPIC = "payment-response";
+
+    private KafkaTemplate<String, SpecificRecordBase> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private FailedRecordRouter failedRecordRouter;
+    private List<ProducerRecord<String, SpecificRecordBase>> sentRecords;
+    private List<List<TestRecord>> handledBatches;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        sentRecords = new ArrayList<>();
+        handledBatches = new ArrayList<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            sentRecords.add(invocation.getArgument(0));
+            SettableListenableFuture<SendResult<String, SpecificRecordBase>> future = new SettableListenableFuture<>();
+            future.set(null);
+            return future;
+        });
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setRetryTopicBackoffsMs(List.of(1_000L, 10_000L));
+        meterRegistry = new SimpleMeterRegistry();
+        failedRecordRouter = new FailedRecordRouter(kafkaTemplate, kafkaConsumerConfigData, meterRegistry);
+    }
+
+    @Test
+    public void testFailedBatchIsRetriedRecordByRecord() {
+        List<ConsumedRecord<TestRecord>> records = ConsumedRecord.of(TOPIC, List.of("a", "b", "c"),
+                List.of(new TestRecord("ok-1"), new TestRecord("poison"), new TestRecord("ok-2")));
+
+        failedRecordRouter.processOrRoute(records, this::failOnPoison);
+
+        assertThat(handledBatches).hasSize(4);
+        assertThat(handledBatches.get(0)).hasSize(3);
+        assertThat(handledBatches.subList(1, 4)).allSatisfy(batch -> assertThat(batch).hasSize(1));
+        assertThat(sentRecords).hasSize(1);
+        ProducerRecord<String, SpecificRecordBase> routed = sentRecords.get(0);
+        assertThat(routed.topic()).isEqualTo(TOPIC + "-retry-1000");
+        assertThat(routed.key()).isEqualTo("b");
+        assertThat(header(routed, RetryTopicHeaders.ATTEMPT)).isEqualTo("1");
+        assertThat(header(routed, RetryTopicHeaders.ORIGINAL_TOPIC)).isEqualTo(TOPIC);
+        assertThat(header(routed, RetryTopicHeaders.EXCEPTION)).contains("poison");
+        assertThat(Long.parseLong(header(routed, RetryTopicHeaders.DUE_AT))).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    public void testRecordsOfRoutedKeyFollowWithoutSpendingAnAttempt() {
+        List<ConsumedRecord<TestRecord>> records = List.of(
+                new ConsumedRecord<>(TOPIC, "a", new TestRecord("poison"), 1),
+                new ConsumedRecord<>(TOPIC, "b", new TestRecord("ok-1"), 0),
+                new ConsumedRecord<>(TOPIC, "a", new TestRecord("ok-2"), 0));
+
+        failedRecordRouter.processOrRoute(records, this::failOnPoison);
+
+        assertThat(handledBatches).extracting(batch -> batch.get(0).name())
+                .containsExactly("poison", "poison", "ok-1");
+        assertThat(sentRecords).hasSize(2);
+        ProducerRecord<String, SpecificRecordBase> failed = sentRecords.get(0);
+        ProducerRecord<String, SpecificRecordBase> follower = sentRecords.get(1);
+        assertThat(failed.topic()).isEqualTo(TOPIC + "-retry-10000");
+        assertThat(header(failed, RetryTopicHeaders.ATTEMPT)).isEqualTo("2");
+        assertThat(follower.topic()).isEqualTo(failed.topic());
+        assertThat(follower.key()).isEqualTo("a");
+        assertThat(header(follower, RetryTopicHeaders.ATTEMPT)).isEqualTo("0");
+        assertThat(header(follower, RetryTopicHeaders.DUE_AT)).isEqualTo(header(failed, RetryTopicHeaders.DUE_AT));
+        assertThat(meterRegistry.get("kafka.consumer.retries").counters()).hasSize(1);
+    }
+
+    @Test
+    public void testRecordGoesToDeadLetterTopicAfterLastTier() {
+        List<ConsumedRecord<TestRecord>> records =
+                List.of(new ConsumedRecord<>(TOPIC, "a", new TestRecord("poison"), 2));
+
+        failedRecordRouter.processOrRoute(records, this::failOnPoison);
+
+        assertThat(sentRecords).hasSize(1);
+        ProducerRecord<String, SpecificRecordBase> deadLetter = sentRecords.get(0);
+        assertThat(deadLetter.topic()).isEqualTo(TOPIC + "-dlt");
+        assertThat(header(deadLetter, RetryTopicHeaders.ATTEMPT)).isEqualTo("3");
+        assertThat(deadLetter.headers().lastHeader(RetryTopicHeaders.DUE_AT)).isNull();
+        assertThat(meterRegistry.get("kafka.consumer.dead.letters").tag("topic", TOPIC).counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    public void testSuccessfulBatchIsNotRouted() {
+        failedRecordRouter.processOrRoute(ConsumedRecord.of(TOPIC, List.of("a", "b"),
+                List.of(new TestRecord("ok-1"), new TestRecord("ok-2"))), this::failOnPoison);
+
+        assertThat(handledBatches).hasSize(1);
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    private void failOnPoison(List<TestRecord> batch) {
+        handledBatches.add(batch);
+        if (batch.stream().anyMatch(record -> record.name().equals("poison"))) {
+            throw new IllegalStateException("poison record");
+        }
+    }
+
+    private static String header(ProducerRecord<String, SpecificRecordBase> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+    private static final class TestRecord extends SpecificRecordBase {
+
+        private static final Schema SCHEMA = SchemaBuilder.record("TestRecord").fields()
+                .requiredString("name")
+                .endRecord();
+
+        private String name;
+
+        private TestRecord(String name) {
+            this.name = name;
+        }
+
+        private String name() {
+            return name;
+        }
+
+        @Override
+        public Schema getSchema() {
+            return SCHEMA;
+        }
+
+        @Override
+        public Object get(int field) {
+            return name;
+        }
+
+        @Override
+        public void put(int field, Object value) {
+            name = value.toString();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.food.ordering.system.kafka.order.avro;
+
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Converts between {@link UUID} and the 16 byte {@link Uuid} fixed used by the v2 schemas. Avro 1.11 only knows the
+ * uuid logical type on strings, so the conversion is done here instead of through a registered Conversion.
+ */
+public final class UuidConversions {
+
+    private UuidConversions() {
+    }
+
+    public static Uuid toFixed(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        byte[] bytes = new byte[16];
+        ByteBuffer.wrap(bytes)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return new Uuid(bytes);
+    }
+
+    public static Uuid toFixed(String uuid) {
+        return uuid == null || uuid.isEmpty() ? null : toFixed(UUID.fromString(uuid));
+    }
+
+    public static UUID toUuid(Uuid fixed) {
+        if (fixed == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(fixed.bytes());
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public static String toUuidString(Uuid fixed) {
+        return fixed == null ? null : toUuid(fixed).toString();
+    }
+}
@@ -2,6 +2,7 @@ package com.food.ordering.system.kafka.producer;
 
 import com.food.ordering.system.kafaka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafaka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.serde.CachedAvroSerdeConfig;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,6 +19,8 @@ import org.springframework.kafka.core.ProducerFactory;
 @RequiredArgsConstructor
 public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecordBase> {
 
+    private static final String VALUE_SUBJECT_NAME_STRATEGY = "value.subject.name.strategy";
+
     private final KafkaConfigData kafkaConfigData;
     private final KafkaProducerConfigData kafkaProducerConfigData;
 
@@ -35,6 +38,19 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
         props.put(ProducerConfig.ACKS_CONFIG, kafkaProducerConfigData.getAcks());
         props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
         props.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+        // v1 and v2 records share a topic while producers migrate, e.g. TopicRecordNameStrategy keeps a subject per
+        // record name so the registry does not check the two schema versions against each other.
+        // CachedSchemaAvroSerializer always uses the record name and rejects any other strategy
+        if (kafkaProducerConfigData.getValueSubjectNameStrategy() != null) {
+            props.put(VALUE_SUBJECT_NAME_STRATEGY, kafkaProducerConfigData.getValueSubjectNameStrategy());
+        }
+        // read by CachedSchemaAvroSerializer only
+        if (kafkaConfigData.getSchemaStorePath() != null) {
+            props.put(CachedAvroSerdeConfig.SCHEMA_STORE_PATH, kafkaConfigData.getSchemaStorePath());
+        }
+        if (!kafkaProducerConfigData.getPinnedRecordClasses().isEmpty()) {
+            props.put(CachedAvroSerdeConfig.PINNED_RECORD_CLASSES, kafkaProducerConfigData.getPinnedRecordClasses());
+        }
         return props;
     }
 
@@ -0,0 +1,66 @@
+package com.food.ordering.system.kafka.producer.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * Outcome of {@link KafkaProducer#sendAll}, index by index with the records that were passed in. Every record is
+ * either sent, with its metadata, or failed, with its exception.
+ */
+public class BatchSendResult<K, V> {
+
+    @Getter
+    private final String topicName;
+    @Getter
+    private final List<KeyedRecord<K, V>> records;
+    private final RecordMetadata[] metadata;
+    private final Throwable[] failures;
+
+    public BatchSendResult(String topicName,
+                           List<KeyedRecord<K, V>> records,
+                           RecordMetadata[] metadata,
+                           Throwable[] failures) {
+        this.topicName = topicName;
+        this.records = records;
+        this.metadata = metadata;
+        this.failures = failures;
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    public boolean isSent(int index) {
+        return failures[index] == null;
+    }
+
+    public RecordMetadata getMetadata(int index) {
+        return metadata[index];
+    }
+
+    public Throwable getFailure(int index) {
+        return failures[index];
+    }
+
+    public int getFailedCount() {
+        int failedCount = 0;
+        for (Throwable failure : failures) {
+            if (failure != null) {
+                failedCount++;
+            }
+        }
+        return failedCount;
+    }
+
+    public List<KeyedRecord<K, V>> getFailedRecords() {
+        List<KeyedRecord<K, V>> failedRecords = new ArrayList<>();
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                failedRecords.add(records.get(i));
+            }
+        }
+        return failedRecords;
+    }
+}
@@ -1,6 +1,8 @@
 package com.food.ordering.system.kafka.producer.service;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.util.concurrent.ListenableFutureCallback;
@@ -9,4 +11,15 @@ import org.springframework.util.concurrent.ListenableFutureCallback;
 public interface KafkaProducer<K extends Serializable, V extends SpecificRecordBase> {
 
     void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> future);
+
+    /**
+     * Appends all records back to back without logging each of them. The returned future completes once every record
+     * is acknowledged or failed, and does not fail itself; failures are reported per record in the result.
+     */
+    CompletableFuture<BatchSendResult<K, V>> sendAll(String topicName, List<KeyedRecord<K, V>> records);
+
+    /**
+     * Sends everything buffered so far without waiting for linger.ms, for callers waiting on a whole batch.
+     */
+    void flush();
 }
@@ -0,0 +1,4 @@
+package com.food.ordering.system.kafka.producer.service;
+
+public record KeyedRecord<K, V>(K key, V value) {
+}
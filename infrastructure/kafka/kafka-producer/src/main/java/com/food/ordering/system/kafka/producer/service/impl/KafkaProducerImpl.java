@@ -1,12 +1,25 @@
 package com.food.ordering.system.kafka.producer.service.impl;
 
+import com.food.ordering.system.domain.log.LogSampler;
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.service.BatchSendResult;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedRecord;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.PreDestroy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -14,28 +27,132 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
-
+/**
+ * Send latency from send to acknowledgement is recorded per topic in kafka.producer.send, tagged with the result, and
+ * batch sizes of {@link #sendAll} in kafka.producer.batch.records. Payloads are only logged at debug, at most once per
+ * second.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
 
     private final KafkaTemplate<K, V> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TopicMeters> topicMeters = new ConcurrentHashMap<>();
+    private final LogSampler payloadLogSampler = new LogSampler(Duration.ofSeconds(1));
 
+    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     public void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> future) {
-        log.info("Sending message= {}, to topic= {}", message, topicName);
+        if (log.isDebugEnabled() && payloadLogSampler.sample()) {
+            log.debug("Sending message= {}, to topic= {}", message, topicName);
+        }
+        TopicMeters meters = topicMeters(topicName);
+        long startNanos = System.nanoTime();
         try {
             ListenableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
+            kafkaResultFuture.addCallback(result -> meters.recordSuccess(startNanos),
+                    ex -> meters.recordFailure(startNanos));
             kafkaResultFuture.addCallback(future);
         } catch (KafkaException e) {
-            log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message, e.getMessage());
-            throw new KafkaProducerException("Error on kafka producer with key: " + key + " and message: " + message);
+            meters.recordFailure(startNanos);
+            log.error("Error on kafka producer with key: {} to topic: {} and exception: {}", key, topicName,
+                    e.getMessage());
+            throw new KafkaProducerException("Error on kafka producer with key: " + key + " to topic: " + topicName);
+        }
+
+    }
+
+
+    @Override
+    public CompletableFuture<BatchSendResult<K, V>> sendAll(String topicName, List<KeyedRecord<K, V>> records) {
+        RecordMetadata[] metadata = new RecordMetadata[records.size()];
+        Throwable[] failures = new Throwable[records.size()];
+        CompletableFuture<BatchSendResult<K, V>> completion = new CompletableFuture<>();
+        if (records.isEmpty()) {
+            completion.complete(new BatchSendResult<>(topicName, records, metadata, failures));
+            return completion;
+        }
+
+        TopicMeters meters = topicMeters(topicName);
+        meters.batchRecords().record(records.size());
+        long startNanos = System.nanoTime();
+        // the last record to finish completes the batch; the counter orders the array writes before that
+        AtomicInteger pending = new AtomicInteger(records.size());
+        Runnable recordDone = () -> {
+            if (pending.decrementAndGet() == 0) {
+                BatchSendResult<K, V> batchSendResult = new BatchSendResult<>(topicName, records, metadata, failures);
+                logFailures(batchSendResult);
+                completion.complete(batchSendResult);
+            }
+        };
+        for (int i = 0; i < records.size(); i++) {
+            int index = i;
+            KeyedRecord<K, V> record = records.get(i);
+            try {
+                kafkaTemplate.send(topicName, record.key(), record.value()).addCallback(
+                        result -> {
+                            metadata[index] = result.getRecordMetadata();
+                            meters.recordSuccess(startNanos);
+                            recordDone.run();
+                        },
+                        ex -> {
+                            failures[index] = ex;
+                            meters.recordFailure(startNanos);
+                            recordDone.run();
+                        });
+            } catch (RuntimeException e) {
+                failures[index] = e;
+                meters.recordFailure(startNanos);
+                recordDone.run();
+            }
+        }
+        return completion;
+    }
+
+    @Override
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+    private void logFailures(BatchSendResult<K, V> batchSendResult) {
+        int failedCount = batchSendResult.getFailedCount();
+        if (failedCount == 0) {
+            log.debug("{} records sent to topic= {}", batchSendResult.size(), batchSendResult.getTopicName());
+            return;
         }
+        for (int i = 0; i < batchSendResult.size(); i++) {
+            if (!batchSendResult.isSent(i)) {
+                log.error("{} of {} records could not be sent to topic= {}, first failure for key: {}: {}",
+                        failedCount, batchSendResult.size(), batchSendResult.getTopicName(),
+                        batchSendResult.getRecords().get(i).key(), batchSendResult.getFailure(i).getMessage());
+                return;
+            }
+        }
+    }
 
+    private TopicMeters topicMeters(String topicName) {
+        return topicMeters.computeIfAbsent(topicName, topic -> new TopicMeters(
+                sendTimer(topic, "success"),
+                sendTimer(topic, "failure"),
+                DistributionSummary.builder("kafka.producer.batch.records")
+                        .description("Records passed to one sendAll call")
+                        .tag("topic", topic)
+                        .register(meterRegistry)));
     }
 
+    private Timer sendTimer(String topic, String result) {
+        return Timer.builder("kafka.producer.send")
+                .description("Time from send until the broker acknowledged or the send failed")
+                .tag("topic", topic)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @PreDestroy
     public void close() {
@@ -44,4 +161,15 @@ public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordB
             kafkaTemplate.destroy();
         }
     }
+
+    private record TopicMeters(Timer sendSuccess, Timer sendFailure, DistributionSummary batchRecords) {
+
+        void recordSuccess(long startNanos) {
+            sendSuccess.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        void recordFailure(long startNanos) {
+            sendFailure.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.food.ordering.system.kafka.producer.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.kafka.producer.service.BatchSendResult;
+import com.food.ordering.system.kafka.producer.service.KeyedRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+public class KafkaProducerImplTest {
+
+    private static final String TOPIC = "payment-request";
+
+    private KafkaTemplate<String, SpecificRecordBase> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaProducerImpl<String, SpecificRecordBase> kafkaProducer;
+    private Map<String, SettableListenableFuture<SendResult<String, SpecificRecordBase>>> sends;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        kafkaProducer = new KafkaProducerImpl<>(kafkaTemplate, meterRegistry);
+        sends = new HashMap<>();
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenAnswer(invocation -> {
+            SettableListenableFuture<SendResult<String, SpecificRecordBase>> future =
+                    new SettableListenableFuture<>();
+            sends.put(invocation.getArgument(1), future);
+            return future;
+        });
+    }
+
+    @Test
+    public void testBatchCompletesWithLastCallbackAndKeepsResultsByIndex() {
+        CompletableFuture<BatchSendResult<String, SpecificRecordBase>> completion =
+                kafkaProducer.sendAll(TOPIC, records("a", "b", "c"));
+
+        IllegalStateException failure = new IllegalStateException("broker unavailable");
+        sends.get("a").set(sendResult());
+        sends.get("c").setException(failure);
+        assertThat(completion).isNotDone();
+        sends.get("b").set(sendResult());
+
+        assertThat(completion).isCompleted();
+        BatchSendResult<String, SpecificRecordBase> batchSendResult = completion.join();
+        assertThat(batchSendResult.size()).isEqualTo(3);
+        assertThat(batchSendResult.isSent(0)).isTrue();
+        assertThat(batchSendResult.isSent(1)).isTrue();
+        assertThat(batchSendResult.isSent(2)).isFalse();
+        assertThat(batchSendResult.getFailure(2)).isSameAs(failure);
+        assertThat(batchSendResult.getFailedRecords()).extracting(KeyedRecord::key).containsExactly("c");
+        assertThat(sendCount("success")).isEqualTo(2);
+        assertThat(sendCount("failure")).isEqualTo(1);
+        assertThat(meterRegistry.get("kafka.producer.batch.records").summary().totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    public void testSynchronousSendFailureIsRecordedForItsIndex() {
+        KafkaException failure = new KafkaException("buffer exhausted");
+        when(kafkaTemplate.send(TOPIC, "b", null)).thenThrow(failure);
+
+        CompletableFuture<BatchSendResult<String, SpecificRecordBase>> completion =
+                kafkaProducer.sendAll(TOPIC, records("a", "b"));
+
+        assertThat(completion).isNotDone();
+        sends.get("a").set(sendResult());
+
+        BatchSendResult<String, SpecificRecordBase> batchSendResult = completion.join();
+        assertThat(batchSendResult.isSent(0)).isTrue();
+        assertThat(batchSendResult.getFailure(1)).isSameAs(failure);
+        assertThat(batchSendResult.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testBatchOfOnlySynchronousFailuresCompletesAtOnce() {
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenThrow(new KafkaException("closed"));
+
+        CompletableFuture<BatchSendResult<String, SpecificRecordBase>> completion =
+                kafkaProducer.sendAll(TOPIC, records("a", "b"));
+
+        assertThat(completion).isCompleted();
+        assertThat(completion.join().getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEmptyBatchCompletesWithoutSending() {
+        CompletableFuture<BatchSendResult<String, SpecificRecordBase>> completion =
+                kafkaProducer.sendAll(TOPIC, List.of());
+
+        assertThat(completion).isCompleted();
+        assertThat(completion.join().size()).isZero();
+        assertThat(completion.join().getFailedCount()).isZero();
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        assertThat(meterRegistry.find("kafka.producer.batch.records").summary()).isNull();
+    }
+
+    private long sendCount(String result) {
+        return meterRegistry.get("kafka.producer.send").tag("topic", TOPIC).tag("result", result).timer().count();
+    }
+
+    private static List<KeyedRecord<String, SpecificRecordBase>> records(String... keys) {
+        return Arrays.stream(keys)
+                .map(key -> new KeyedRecord<String, SpecificRecordBase>(key, null))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SendResult<String, SpecificRecordBase> sendResult() {
+        return mock(SendResult.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.food.ordering.system.kafka.serde;
+
+import com.food.ordering.system.kafka.serde.store.LocalFileSchemaStore;
+import com.food.ordering.system.kafka.serde.store.RegistrySchemaStore;
+import com.food.ordering.system.kafka.serde.store.SchemaStore;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.subject.RecordNameStrategy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.config.ConfigException;
+
+/**
+ * Client properties read by {@link CachedSchemaAvroSerializer} and {@link CachedSchemaAvroDeserializer}. The schema
+ * registry is used when its url is set, otherwise the local schema store directory. Schemas are always registered
+ * under the full record name, so a subject name strategy other than {@link RecordNameStrategy} is rejected instead of
+ * being silently ignored.
+ */
+public final class CachedAvroSerdeConfig {
+
+    public static final String SCHEMA_REGISTRY_URL = "schema.registry.url";
+    public static final String SCHEMA_STORE_PATH = "cached.avro.schema.store.path";
+    public static final String PINNED_RECORD_CLASSES = "cached.avro.pinned.record.classes";
+    public static final String MAX_RETAINED_BUFFER_BYTES = "cached.avro.max.retained.buffer.bytes";
+
+    static final int DEFAULT_MAX_RETAINED_BUFFER_BYTES = 1024 * 1024;
+
+    private CachedAvroSerdeConfig() {
+    }
+
+    static SchemaStore schemaStore(Map<String, ?> configs) {
+        Object schemaRegistryUrl = configs.get(SCHEMA_REGISTRY_URL);
+        if (schemaRegistryUrl != null && !schemaRegistryUrl.toString().isBlank()) {
+            return new RegistrySchemaStore(schemaRegistryUrl.toString(), configs);
+        }
+        Object schemaStorePath = configs.get(SCHEMA_STORE_PATH);
+        if (schemaStorePath != null && !schemaStorePath.toString().isBlank()) {
+            return new LocalFileSchemaStore(Path.of(schemaStorePath.toString()));
+        }
+        throw new ConfigException("Either " + SCHEMA_REGISTRY_URL + " or " + SCHEMA_STORE_PATH + " has to be set");
+    }
+
+    static List<Class<? extends SpecificRecordBase>> pinnedRecordClasses(Map<String, ?> configs) {
+        List<Class<? extends SpecificRecordBase>> recordClasses = new ArrayList<>();
+        for (String className : asList(configs.get(PINNED_RECORD_CLASSES))) {
+            try {
+                recordClasses.add(Class.forName(className.trim()).asSubclass(SpecificRecordBase.class));
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new ConfigException(PINNED_RECORD_CLASSES, className, "not a generated Avro record class");
+            }
+        }
+        return recordClasses;
+    }
+
+    static void checkSubjectNameStrategy(Map<String, ?> configs, boolean isKey) {
+        String configName = isKey
+                ? AbstractKafkaSchemaSerDeConfig.KEY_SUBJECT_NAME_STRATEGY
+                : AbstractKafkaSchemaSerDeConfig.VALUE_SUBJECT_NAME_STRATEGY;
+        Object subjectNameStrategy = configs.get(configName);
+        if (subjectNameStrategy == null) {
+            return;
+        }
+        String className = subjectNameStrategy instanceof Class<?> strategyClass
+                ? strategyClass.getName()
+                : subjectNameStrategy.toString().trim();
+        if (!className.isEmpty() && !className.equals(RecordNameStrategy.class.getName())) {
+            throw new ConfigException(configName, className,
+                    "the cached Avro serde only registers schemas under the record name, use "
+                            + RecordNameStrategy.class.getName() + " or the Confluent KafkaAvroSerializer");
+        }
+    }
+
+    static int maxRetainedBufferBytes(Map<String, ?> configs) {
+        Object maxRetainedBufferBytes = configs.get(MAX_RETAINED_BUFFER_BYTES);
+        return maxRetainedBufferBytes == null
+                ? DEFAULT_MAX_RETAINED_BUFFER_BYTES
+                : Integer.parseInt(maxRetainedBufferBytes.toString());
+    }
+
+    private static List<String> asList(Object value) {
+        if (value == null) {
+            return List.of();
+        }
+        if (value instanceof Collection<?> values) {
+            return values.stream().map(Object::toString).toList();
+        }
+        return Arrays.stream(value.toString().split(","))
+                .filter(className -> !className.isBlank())
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.food.ordering.system.kafka.serde;
+
+import static com.food.ordering.system.kafka.serde.CachedSchemaAvroSerializer.HEADER_SIZE;
+import static com.food.ordering.system.kafka.serde.CachedSchemaAvroSerializer.MAGIC_BYTE;
+
+import com.food.ordering.system.kafka.serde.store.SchemaStore;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Reads records written in the schema registry wire format into the generated class named by the writer schema.
+ * Writer schemas are fetched once per id, the ids of the pinned classes while the consumer is created, and the
+ * decoder and datum readers are reused per thread.
+ */
+@Slf4j
+public class CachedSchemaAvroDeserializer implements Deserializer<SpecificRecordBase> {
+
+    private final Map<Integer, Schema> writerSchemas = new ConcurrentHashMap<>();
+    private final ThreadLocal<DecoderState> decoderState = ThreadLocal.withInitial(DecoderState::new);
+    private SchemaStore schemaStore;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        schemaStore = CachedAvroSerdeConfig.schemaStore(configs);
+        for (Class<? extends SpecificRecordBase> recordClass : CachedAvroSerdeConfig.pinnedRecordClasses(configs)) {
+            Schema schema = SpecificData.get().getSchema(recordClass);
+            OptionalInt id = schemaStore.findId(schema.getFullName(), schema);
+            if (id.isPresent()) {
+                writerSchemas.put(id.getAsInt(), schema);
+                log.info("Pinned schema id {} for {}", id.getAsInt(), recordClass.getName());
+            } else {
+                log.warn("No schema id registered for {}, it is fetched with the first record", recordClass.getName());
+            }
+        }
+    }
+
+    @Override
+    public SpecificRecordBase deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < HEADER_SIZE || data[0] != MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte in record of topic " + topic);
+        }
+        int id = (data[1] & 0xff) << 24 | (data[2] & 0xff) << 16 | (data[3] & 0xff) << 8 | data[4] & 0xff;
+        try {
+            return decoderState.get().read(id, writerSchemas.computeIfAbsent(id, schemaStore::getById), data);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error deserializing Avro record with schema id " + id
+                    + " of topic " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        decoderState.remove();
+    }
+
+    private static final class DecoderState {
+        private final Map<Integer, SpecificDatumReader<SpecificRecordBase>> datumReaders = new HashMap<>();
+        private BinaryDecoder decoder;
+
+        SpecificRecordBase read(int id, Schema writerSchema, byte[] data) throws IOException {
+            SpecificDatumReader<SpecificRecordBase> datumReader = datumReaders.computeIfAbsent(id,
+                    schemaId -> new SpecificDatumReader<>(writerSchema, readerSchema(writerSchema)));
+            decoder = DecoderFactory.get().binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE, decoder);
+            return datumReader.read(null, decoder);
+        }
+
+        private static Schema readerSchema(Schema writerSchema) {
+            Class<?> recordClass = SpecificData.get().getClass(writerSchema);
+            if (recordClass == null) {
+                throw new SerializationException("No generated class for " + writerSchema.getFullName());
+            }
+            return SpecificData.get().getSchema(recordClass);
+        }
+    }
+}
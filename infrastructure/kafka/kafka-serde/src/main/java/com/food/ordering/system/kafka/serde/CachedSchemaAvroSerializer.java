@@ -0,0 +1,96 @@
+package com.food.ordering.system.kafka.serde;
+
+import com.food.ordering.system.kafka.serde.store.SchemaStore;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Writes generated Avro records in the schema registry wire format: a zero magic byte, the 4 byte schema id and the
+ * binary encoded record. Schema ids are resolved once per record class, the pinned classes while the producer is
+ * created, and encoder, datum writer and output buffer are reused per thread, so a record costs one copy of its
+ * encoded bytes. Schemas are registered under the full record name.
+ */
+@Slf4j
+public class CachedSchemaAvroSerializer implements Serializer<SpecificRecordBase> {
+
+    static final byte MAGIC_BYTE = 0;
+    static final int HEADER_SIZE = 5;
+    private static final int INITIAL_BUFFER_BYTES = 512;
+
+    private final Map<Class<?>, WriterSchema> writerSchemas = new ConcurrentHashMap<>();
+    private final ThreadLocal<EncoderState> encoderState = ThreadLocal.withInitial(EncoderState::new);
+    private SchemaStore schemaStore;
+    private int maxRetainedBufferBytes;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        CachedAvroSerdeConfig.checkSubjectNameStrategy(configs, isKey);
+        schemaStore = CachedAvroSerdeConfig.schemaStore(configs);
+        maxRetainedBufferBytes = CachedAvroSerdeConfig.maxRetainedBufferBytes(configs);
+        for (Class<? extends SpecificRecordBase> recordClass : CachedAvroSerdeConfig.pinnedRecordClasses(configs)) {
+            WriterSchema writerSchema = resolve(SpecificData.get().getSchema(recordClass));
+            writerSchemas.put(recordClass, writerSchema);
+            log.info("Pinned schema id {} for {}", writerSchema.id(), recordClass.getName());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, SpecificRecordBase record) {
+        if (record == null) {
+            return null;
+        }
+        WriterSchema writerSchema = writerSchemas.computeIfAbsent(record.getClass(),
+                recordClass -> resolve(record.getSchema()));
+        try {
+            return encoderState.get().write(writerSchema, record, maxRetainedBufferBytes);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error serializing Avro record " + record.getSchema().getFullName()
+                    + " for topic " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        encoderState.remove();
+    }
+
+    private WriterSchema resolve(Schema schema) {
+        return new WriterSchema(schemaStore.register(schema.getFullName(), schema), schema);
+    }
+
+    private record WriterSchema(int id, Schema schema) {
+    }
+
+    private static final class EncoderState {
+        private final Map<Class<?>, DatumWriter<SpecificRecordBase>> datumWriters = new HashMap<>();
+        private final ReusableByteArrayOutputStream buffer = new ReusableByteArrayOutputStream(INITIAL_BUFFER_BYTES);
+        private BinaryEncoder encoder;
+
+        byte[] write(WriterSchema writerSchema, SpecificRecordBase record, int maxRetainedBufferBytes)
+                throws IOException {
+            DatumWriter<SpecificRecordBase> datumWriter = datumWriters.computeIfAbsent(record.getClass(),
+                    recordClass -> new SpecificDatumWriter<>(writerSchema.schema()));
+            try {
+                buffer.write(MAGIC_BYTE);
+                buffer.writeInt(writerSchema.id());
+                encoder = EncoderFactory.get().directBinaryEncoder(buffer, encoder);
+                datumWriter.write(record, encoder);
+                return buffer.toByteArray();
+            } finally {
+                buffer.release(maxRetainedBufferBytes);
+            }
+        }
+    }
+}
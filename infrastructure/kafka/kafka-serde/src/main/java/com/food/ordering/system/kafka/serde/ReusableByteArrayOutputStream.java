@@ -0,0 +1,35 @@
+package com.food.ordering.system.kafka.serde;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Thread confined output buffer that keeps its backing array between records. An array that grew past the retained
+ * limit for one large record is dropped again so it is not held by the thread for good.
+ */
+final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+
+    private final int initialSize;
+
+    ReusableByteArrayOutputStream(int initialSize) {
+        super(initialSize);
+        this.initialSize = initialSize;
+    }
+
+    void writeInt(int value) {
+        write(value >>> 24);
+        write(value >>> 16);
+        write(value >>> 8);
+        write(value);
+    }
+
+    int capacity() {
+        return buf.length;
+    }
+
+    void release(int maxRetainedBytes) {
+        reset();
+        if (buf.length > maxRetainedBytes) {
+            buf = new byte[initialSize];
+        }
+    }
+}
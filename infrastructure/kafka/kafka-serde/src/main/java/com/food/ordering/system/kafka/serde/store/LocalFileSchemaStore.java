@@ -0,0 +1,150 @@
+package com.food.ordering.system.kafka.serde.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Keeps one {@code <id>.avsc} file per schema in a directory, for running and testing without a schema registry.
+ * Ids are global like in the registry, so the subject is not part of the key. Several clients may share the
+ * directory, a new id is claimed by creating its file and a lost race is resolved by reading the directory again.
+ */
+@Slf4j
+public class LocalFileSchemaStore implements SchemaStore {
+
+    private static final String SCHEMA_FILE_SUFFIX = ".avsc";
+
+    private final Path directory;
+    private final Map<Integer, Schema> schemasById = new HashMap<>();
+    private final Map<Schema, Integer> idsBySchema = new HashMap<>();
+    private int maxId;
+
+    public LocalFileSchemaStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create schema store directory " + directory, e);
+        }
+        reload();
+        log.info("Using local schema store at {} with {} schemas", directory, schemasById.size());
+    }
+
+    @Override
+    public synchronized int register(String subject, Schema schema) {
+        Integer id = idsBySchema.get(schema);
+        while (id == null) {
+            int nextId = maxId + 1;
+            if (claim(nextId, schema)) {
+                add(nextId, schema);
+                id = nextId;
+            } else {
+                reload();
+                id = idsBySchema.get(schema);
+            }
+        }
+        return id;
+    }
+
+    @Override
+    public synchronized OptionalInt findId(String subject, Schema schema) {
+        Integer id = idsBySchema.get(schema);
+        if (id == null) {
+            reload();
+            id = idsBySchema.get(schema);
+        }
+        return id == null ? OptionalInt.empty() : OptionalInt.of(id);
+    }
+
+    @Override
+    public synchronized Schema getById(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            reload();
+            schema = schemasById.get(id);
+        }
+        if (schema == null) {
+            throw new SerializationException("No schema with id: " + id + " in " + directory);
+        }
+        return schema;
+    }
+
+    /**
+     * Writes the schema to a temporary file first and links it under its id, so readers never see a partial file and
+     * only one client wins an id.
+     */
+    private boolean claim(int id, Schema schema) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, "schema-", ".tmp");
+            Files.writeString(tempFile, schema.toString(), StandardCharsets.UTF_8);
+            Files.createLink(schemaFile(id), tempFile);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } catch (IOException e) {
+            throw new SerializationException("Could not store schema " + schema.getFullName(), e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary schema file {}", file);
+        }
+    }
+
+    private void reload() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SCHEMA_FILE_SUFFIX))
+                    .forEach(this::load);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read schema store directory " + directory, e);
+        }
+    }
+
+    private void load(Path file) {
+        String fileName = file.getFileName().toString();
+        int id;
+        try {
+            id = Integer.parseInt(fileName.substring(0, fileName.length() - SCHEMA_FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring {} in schema store, file names have to be <id>{}", file, SCHEMA_FILE_SUFFIX);
+            return;
+        }
+        if (schemasById.containsKey(id)) {
+            return;
+        }
+        try {
+            add(id, new Schema.Parser().parse(Files.readString(file, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new SerializationException("Could not read schema file " + file, e);
+        }
+    }
+
+    private void add(int id, Schema schema) {
+        schemasById.put(id, schema);
+        idsBySchema.putIfAbsent(schema, id);
+        maxId = Math.max(maxId, id);
+    }
+
+    private Path schemaFile(int id) {
+        return directory.resolve(id + SCHEMA_FILE_SUFFIX);
+    }
+}
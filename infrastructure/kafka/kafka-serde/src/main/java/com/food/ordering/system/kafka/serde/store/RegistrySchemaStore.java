@@ -0,0 +1,61 @@
+package com.food.ordering.system.kafka.serde.store;
+
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import java.io.IOException;
+import java.util.Map;
+import java.util.OptionalInt;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+public class RegistrySchemaStore implements SchemaStore {
+
+    private static final int IDENTITY_MAP_CAPACITY = 1000;
+    private static final int SUBJECT_NOT_FOUND = 40401;
+    private static final int SCHEMA_NOT_FOUND = 40403;
+
+    private final SchemaRegistryClient schemaRegistryClient;
+
+    public RegistrySchemaStore(String schemaRegistryUrl, Map<String, ?> configs) {
+        this.schemaRegistryClient = new CachedSchemaRegistryClient(schemaRegistryUrl, IDENTITY_MAP_CAPACITY, configs);
+    }
+
+    @Override
+    public int register(String subject, Schema schema) {
+        try {
+            return schemaRegistryClient.register(subject, new AvroSchema(schema));
+        } catch (IOException | RestClientException e) {
+            throw new SerializationException("Could not register schema " + schema.getFullName()
+                    + " under subject " + subject, e);
+        }
+    }
+
+    @Override
+    public OptionalInt findId(String subject, Schema schema) {
+        try {
+            return OptionalInt.of(schemaRegistryClient.getId(subject, new AvroSchema(schema)));
+        } catch (RestClientException e) {
+            if (e.getErrorCode() == SUBJECT_NOT_FOUND || e.getErrorCode() == SCHEMA_NOT_FOUND) {
+                return OptionalInt.empty();
+            }
+            throw new SerializationException("Could not look up schema " + schema.getFullName()
+                    + " under subject " + subject, e);
+        } catch (IOException e) {
+            throw new SerializationException("Could not look up schema " + schema.getFullName()
+                    + " under subject " + subject, e);
+        }
+    }
+
+    @Override
+    public Schema getById(int id) {
+        try {
+            ParsedSchema parsedSchema = schemaRegistryClient.getSchemaById(id);
+            return ((AvroSchema) parsedSchema).rawSchema();
+        } catch (IOException | RestClientException e) {
+            throw new SerializationException("Could not fetch schema with id: " + id, e);
+        }
+    }
+}
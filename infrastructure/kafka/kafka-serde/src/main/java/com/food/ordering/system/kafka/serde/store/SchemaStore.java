@@ -0,0 +1,17 @@
+package com.food.ordering.system.kafka.serde.store;
+
+import java.util.OptionalInt;
+import org.apache.avro.Schema;
+
+/**
+ * Source of schema ids for the cached Avro serde. Only called while a schema or id is seen for the first time, the
+ * serde keeps the results for the lifetime of the client.
+ */
+public interface SchemaStore {
+
+    int register(String subject, Schema schema);
+
+    OptionalInt findId(String subject, Schema schema);
+
+    Schema getById(int id);
+}
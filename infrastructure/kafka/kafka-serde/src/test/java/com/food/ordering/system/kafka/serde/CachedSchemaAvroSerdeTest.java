@@ -0,0 +1,122 @@
+package com.food.ordering.system.kafka.serde;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.subject.RecordNameStrategy;
+import io.confluent.kafka.serializers.subject.TopicRecordNameStrategy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.config.ConfigException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CachedSchemaAvroSerdeTest {
+
+    private static final String TOPIC = "payment-request";
+
+    @TempDir
+    Path tempDir;
+
+    private final CachedSchemaAvroSerializer serializer = new CachedSchemaAvroSerializer();
+    private final CachedSchemaAvroDeserializer deserializer = new CachedSchemaAvroDeserializer();
+
+    @AfterEach
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Test
+    public void testReadsRecordWrittenByConfluentSerializer() throws Exception {
+        TestRecord record = new TestRecord(7L, "written by confluent");
+        byte[] data;
+        try (KafkaAvroSerializer confluentSerializer = new KafkaAvroSerializer(new MockSchemaRegistryClient(),
+                Map.of(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://serde-test"))) {
+            data = confluentSerializer.serialize(TOPIC, record);
+        }
+        int id = ByteBuffer.wrap(data, 1, Integer.BYTES).getInt();
+        Files.writeString(tempDir.resolve(id + ".avsc"), TestRecord.SCHEMA$.toString(), StandardCharsets.UTF_8);
+        deserializer.configure(configs(), false);
+
+        SpecificRecordBase read = deserializer.deserialize(TOPIC, data);
+
+        assertThat(read).isInstanceOf(TestRecord.class).isEqualTo(record);
+    }
+
+    @Test
+    public void testRoundTripWithPinnedRecordClass() {
+        Map<String, Object> configs = configs();
+        configs.put(CachedAvroSerdeConfig.PINNED_RECORD_CLASSES, TestRecord.class.getName());
+        serializer.configure(configs, false);
+        deserializer.configure(configs, false);
+        TestRecord record = new TestRecord(1L, "pinned");
+
+        byte[] data = serializer.serialize(TOPIC, record);
+
+        assertThat(data[0]).isEqualTo(CachedSchemaAvroSerializer.MAGIC_BYTE);
+        assertThat(deserializer.deserialize(TOPIC, data)).isEqualTo(record);
+        assertThat(serializer.serialize(TOPIC, null)).isNull();
+    }
+
+    @Test
+    public void testRecordsStayIntactWhenOversizedBufferIsReleased() {
+        Map<String, Object> configs = configs();
+        configs.put(CachedAvroSerdeConfig.MAX_RETAINED_BUFFER_BYTES, 64);
+        serializer.configure(configs, false);
+        deserializer.configure(configs, false);
+        TestRecord large = new TestRecord(1L, "x".repeat(10_000));
+        TestRecord small = new TestRecord(2L, "small");
+
+        byte[] largeData = serializer.serialize(TOPIC, large);
+        byte[] smallData = serializer.serialize(TOPIC, small);
+
+        assertThat(deserializer.deserialize(TOPIC, largeData)).isEqualTo(large);
+        assertThat(deserializer.deserialize(TOPIC, smallData)).isEqualTo(small);
+    }
+
+    @Test
+    public void testBufferAboveRetainedLimitIsDropped() {
+        ReusableByteArrayOutputStream buffer = new ReusableByteArrayOutputStream(16);
+
+        buffer.write(new byte[100], 0, 100);
+        buffer.release(256);
+        assertThat(buffer.capacity()).isGreaterThanOrEqualTo(100);
+        assertThat(buffer.size()).isZero();
+
+        buffer.write(new byte[1_000], 0, 1_000);
+        buffer.release(256);
+        assertThat(buffer.capacity()).isEqualTo(16);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    public void testOnlyRecordNameStrategyIsAccepted() {
+        Map<String, Object> configs = configs();
+        configs.put(AbstractKafkaSchemaSerDeConfig.VALUE_SUBJECT_NAME_STRATEGY,
+                TopicRecordNameStrategy.class.getName());
+
+        assertThatThrownBy(() -> serializer.configure(configs, false))
+                .isInstanceOf(ConfigException.class)
+                .hasMessageContaining(AbstractKafkaSchemaSerDeConfig.VALUE_SUBJECT_NAME_STRATEGY);
+
+        configs.put(AbstractKafkaSchemaSerDeConfig.VALUE_SUBJECT_NAME_STRATEGY, RecordNameStrategy.class);
+        serializer.configure(configs, false);
+        assertThat(serializer.serialize(TOPIC, new TestRecord(1L, "record name"))).isNotEmpty();
+    }
+
+    private Map<String, Object> configs() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(CachedAvroSerdeConfig.SCHEMA_STORE_PATH, tempDir.toString());
+        return configs;
+    }
+}
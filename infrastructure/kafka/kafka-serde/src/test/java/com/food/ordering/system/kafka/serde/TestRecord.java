@@ -0,0 +1,53 @@
+package com.food.ordering.system.kafka.serde;
+
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.specific.SpecificRecordBase;
+
+/**
+ * Hand written stand-in for a generated record, found by the deserializer through the schema's full name.
+ */
+public class TestRecord extends SpecificRecordBase {
+
+    public static final Schema SCHEMA$ = SchemaBuilder.record("TestRecord")
+            .namespace("com.food.ordering.system.kafka.serde")
+            .fields()
+            .requiredLong("id")
+            .requiredString("name")
+            .endRecord();
+
+    private long id;
+    private String name;
+
+    public TestRecord() {
+    }
+
+    public TestRecord(long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA$;
+    }
+
+    @Override
+    public Object get(int field) {
+        return switch (field) {
+            case 0 -> id;
+            case 1 -> name;
+            default -> throw new AvroRuntimeException("Invalid index: " + field);
+        };
+    }
+
+    @Override
+    public void put(int field, Object value) {
+        switch (field) {
+            case 0 -> id = (Long) value;
+            case 1 -> name = value.toString();
+            default -> throw new AvroRuntimeException("Invalid index: " + field);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.food.ordering.system.kafka.serde.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalFileSchemaStoreTest {
+
+    private static final String SUBJECT = "subject";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRegisteredSchemasAreReadBackByNewInstance() throws Exception {
+        LocalFileSchemaStore store = new LocalFileSchemaStore(tempDir);
+        int firstId = store.register(SUBJECT, schema("First"));
+        int secondId = store.register(SUBJECT, schema("Second"));
+
+        assertThat(store.register(SUBJECT, schema("First"))).isEqualTo(firstId);
+        assertThat(secondId).isNotEqualTo(firstId);
+
+        LocalFileSchemaStore reopened = new LocalFileSchemaStore(tempDir);
+        assertThat(reopened.getById(firstId)).isEqualTo(schema("First"));
+        assertThat(reopened.findId(SUBJECT, schema("Second"))).hasValue(secondId);
+        assertThat(reopened.findId(SUBJECT, schema("Unknown"))).isEmpty();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder(firstId + ".avsc", secondId + ".avsc");
+        }
+    }
+
+    @Test
+    public void testUnknownIdFails() {
+        LocalFileSchemaStore store = new LocalFileSchemaStore(tempDir);
+
+        assertThatThrownBy(() -> store.getById(42))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("42");
+    }
+
+    @Test
+    public void testStoreThatLosesAnIdTakesTheNextOne() {
+        LocalFileSchemaStore first = new LocalFileSchemaStore(tempDir);
+        LocalFileSchemaStore second = new LocalFileSchemaStore(tempDir);
+
+        int firstId = first.register(SUBJECT, schema("First"));
+        int secondId = second.register(SUBJECT, schema("Second"));
+
+        assertThat(secondId).isEqualTo(firstId + 1);
+        assertThat(second.getById(firstId)).isEqualTo(schema("First"));
+        assertThat(first.getById(secondId)).isEqualTo(schema("Second"));
+        assertThat(second.register(SUBJECT, schema("First"))).isEqualTo(firstId);
+    }
+
+    @Test
+    public void testConcurrentStoresNeverShareAnId() throws Exception {
+        int schemasPerStore = 20;
+        List<LocalFileSchemaStore> stores = List.of(new LocalFileSchemaStore(tempDir),
+                new LocalFileSchemaStore(tempDir));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(stores.size());
+        try {
+            List<Future<List<Integer>>> registrations = new ArrayList<>();
+            for (int storeIndex = 0; storeIndex < stores.size(); storeIndex++) {
+                LocalFileSchemaStore store = stores.get(storeIndex);
+                String prefix = "Store" + storeIndex + "Schema";
+                registrations.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    List<Integer> ids = new ArrayList<>();
+                    for (int i = 0; i < schemasPerStore; i++) {
+                        ids.add(store.register(SUBJECT, schema(prefix + i)));
+                    }
+                    ids.add(store.register(SUBJECT, schema("Shared")));
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            List<Integer> firstIds = registrations.get(0).get(10, TimeUnit.SECONDS);
+            List<Integer> secondIds = registrations.get(1).get(10, TimeUnit.SECONDS);
+
+            Set<Integer> distinctIds = new HashSet<>(firstIds.subList(0, schemasPerStore));
+            distinctIds.addAll(secondIds.subList(0, schemasPerStore));
+            assertThat(distinctIds).hasSize(2 * schemasPerStore);
+            assertThat(firstIds.get(schemasPerStore)).isEqualTo(secondIds.get(schemasPerStore));
+            LocalFileSchemaStore reopened = new LocalFileSchemaStore(tempDir);
+            for (int i = 0; i < schemasPerStore; i++) {
+                assertThat(reopened.getById(firstIds.get(i))).isEqualTo(schema("Store0Schema" + i));
+                assertThat(reopened.getById(secondIds.get(i))).isEqualTo(schema("Store1Schema" + i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Schema schema(String name) {
+        return SchemaBuilder.record(name).namespace("com.food.ordering.system.test")
+                .fields()
+                .requiredString("value")
+                .endRecord();
+    }
+}
@@ -2,6 +2,8 @@ package com.food.ordering.system.order.service.application.rest;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
@@ -33,6 +35,16 @@ public class OrderController {
         return ResponseEntity.ok(createOrderResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<CreateOrdersResponse> createOrders(@RequestBody CreateOrdersCommand createOrdersCommand) {
+        log.info("Creating batch of {} orders", createOrdersCommand.getOrders() != null ?
+                createOrdersCommand.getOrders().size() : 0);
+        CreateOrdersResponse createOrdersResponse = orderApplicationService.createOrders(createOrdersCommand);
+        log.info("Order batch created: {}, failed: {}", createOrdersResponse.getCreatedCount(),
+                createOrdersResponse.getFailedCount());
+        return ResponseEntity.ok(createOrdersResponse);
+    }
+
     @GetMapping("/{trackingId}")
     public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
        TrackOrderResponse trackOrderResponse =
@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.domain.time.CachedMillisClock;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingRefresher;
+import com.food.ordering.system.order.service.domain.track.TrackingRefreshingOrderDomainService;
+import java.time.Clock;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class BeanConfiguration {
+
+    @Bean
+    @Primary
+    public IdGenerator idGenerator() {
+        return new TimeOrderedIdGenerator();
+    }
+
+    @Bean
+    public IdGenerator trackingIdGenerator() {
+        return new RandomIdGenerator();
+    }
+
+    @Bean
+    public Clock clock() {
+        return new CachedMillisClock();
+    }
+
+    @Bean
+    public OrderDomainService orderDomainService(IdGenerator idGenerator,
+                                                 @Qualifier("trackingIdGenerator") IdGenerator trackingIdGenerator,
+                                                 Clock clock,
+                                                 OrderTrackingRefresher orderTrackingRefresher) {
+        return new TrackingRefreshingOrderDomainService(
+                new OrderDomainServiceImpl(idGenerator, trackingIdGenerator, clock), orderTrackingRefresher);
+    }
+}
@@ -0,0 +1,112 @@
+package com.food.ordering.system.order.service.dataaccess.customer.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.customer.config.CustomerCacheConfigData;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache in front of {@link CustomerRepositoryImpl}. Misses are cached too, with a much shorter TTL, so a
+ * burst of orders for an unknown customer costs one query instead of one per order.
+ */
+@Primary
+@Component
+public class CachingCustomerRepository implements CustomerRepository {
+
+    private static final String CACHE_NAME = "order.customers";
+
+    private final CustomerRepositoryImpl customerRepository;
+    private final boolean enabled;
+    private final Cache<UUID, Optional<Customer>> customerCache;
+
+    public CachingCustomerRepository(CustomerRepositoryImpl customerRepository,
+                                     CustomerCacheConfigData customerCacheConfigData,
+                                     MeterRegistry meterRegistry) {
+        this.customerRepository = customerRepository;
+        this.enabled = customerCacheConfigData.getEnabled();
+        this.customerCache = Caffeine.newBuilder()
+                .maximumSize(customerCacheConfigData.getMaximumSize())
+                .expireAfter(new CustomerExpiry(
+                        Duration.ofSeconds(customerCacheConfigData.getExpireAfterWriteSeconds()),
+                        Duration.ofSeconds(customerCacheConfigData.getMissExpireAfterWriteSeconds())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, customerCache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<Customer> findCustomer(UUID customerId) {
+        if (!enabled) {
+            return customerRepository.findCustomer(customerId);
+        }
+        return customerCache.get(customerId, customerRepository::findCustomer);
+    }
+
+    @Override
+    public List<Customer> findCustomers(Collection<UUID> customerIds) {
+        if (!enabled) {
+            return customerRepository.findCustomers(customerIds);
+        }
+        Map<UUID, Optional<Customer>> cachedCustomers = customerCache.getAll(customerIds, this::loadCustomers);
+        List<Customer> customers = new ArrayList<>(cachedCustomers.size());
+        cachedCustomers.values().forEach(customer -> customer.ifPresent(customers::add));
+        return customers;
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        Customer savedCustomer = customerRepository.save(customer);
+        customerCache.invalidate(customer.getId().getValue());
+        return savedCustomer;
+    }
+
+    private Map<UUID, Optional<Customer>> loadCustomers(Iterable<? extends UUID> customerIds) {
+        List<UUID> missingCustomerIds = new ArrayList<>();
+        customerIds.forEach(missingCustomerIds::add);
+
+        Map<UUID, Optional<Customer>> loadedCustomers = new HashMap<>(missingCustomerIds.size() * 2);
+        missingCustomerIds.forEach(customerId -> loadedCustomers.put(customerId, Optional.empty()));
+        customerRepository.findCustomers(missingCustomerIds)
+                .forEach(customer -> loadedCustomers.put(customer.getId().getValue(), Optional.of(customer)));
+        return loadedCustomers;
+    }
+
+    private static final class CustomerExpiry implements Expiry<UUID, Optional<Customer>> {
+        private final long hitTtlNanos;
+        private final long missTtlNanos;
+
+        private CustomerExpiry(Duration hitTtl, Duration missTtl) {
+            this.hitTtlNanos = hitTtl.toNanos();
+            this.missTtlNanos = missTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(UUID key, Optional<Customer> value, long currentTime) {
+            return value.isPresent() ? hitTtlNanos : missTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, Optional<Customer> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, Optional<Customer> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
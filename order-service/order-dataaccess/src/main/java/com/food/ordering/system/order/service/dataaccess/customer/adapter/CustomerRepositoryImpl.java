@@ -4,6 +4,8 @@ import com.food.ordering.system.order.service.dataaccess.customer.mapper.Custome
 import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import javax.transaction.Transactional;
@@ -26,6 +28,13 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToCustomer);
     }
 
+    @Override
+    public List<Customer> findCustomers(Collection<UUID> customerIds) {
+        return customerJpaRepository.findAllById(customerIds).stream()
+                .map(customerDataAccessMapper::customerEntityToCustomer)
+                .toList();
+    }
+
     @Transactional
     @Override
     public Customer save(Customer customer) {
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.dataaccess.customer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.customer-cache")
+public class CustomerCacheConfigData {
+    private Boolean enabled = true;
+    private Long maximumSize = 100_000L;
+    private Long expireAfterWriteSeconds = 300L;
+    private Long missExpireAfterWriteSeconds = 5L;
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.dataaccess.inbox.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.inbox.repository.OrderInboxJdbcRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderInboxRepository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class OrderInboxRepositoryImpl implements OrderInboxRepository {
+
+    private final OrderInboxJdbcRepository orderInboxJdbcRepository;
+
+    /**
+     * Must join the transaction that applies the messages, otherwise a rollback would leave them recorded.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public Set<UUID> saveNew(Collection<UUID> messageIds, Instant receivedAt) {
+        return orderInboxJdbcRepository.insertNew(messageIds, receivedAt);
+    }
+
+    @Transactional
+    @Override
+    public int deleteReceivedBefore(Instant receivedAt) {
+        return orderInboxJdbcRepository.deleteReceivedBefore(receivedAt);
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.dataaccess.inbox.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_inbox", indexes = {
+        @Index(name = "order_inbox_received_at_idx", columnList = "received_at")
+})
+@EqualsAndHashCode(of = "messageId")
+public class OrderInboxEntity {
+    @Id
+    private UUID messageId;
+
+    private Instant receivedAt;
+}
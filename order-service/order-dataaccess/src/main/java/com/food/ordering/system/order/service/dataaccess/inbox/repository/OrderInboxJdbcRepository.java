@@ -0,0 +1,45 @@
+package com.food.ordering.system.order.service.dataaccess.inbox.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inserts a whole batch of message ids with one statement. Ids already present are skipped by the primary key instead
+ * of failing the transaction, and the inserted ids are returned in the same round trip.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderInboxJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO order_inbox (message_id, received_at) "
+            + "SELECT m.message_id, ? FROM unnest(?) AS m(message_id) "
+            + "ON CONFLICT (message_id) DO NOTHING "
+            + "RETURNING message_id";
+
+    private static final String DELETE_RECEIVED_BEFORE_SQL = "DELETE FROM order_inbox WHERE received_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<UUID> insertNew(Collection<UUID> messageIds, Instant receivedAt) {
+        Set<UUID> insertedMessageIds = new HashSet<>(messageIds.size() * 2);
+        jdbcTemplate.query(INSERT_SQL, preparedStatement -> {
+            preparedStatement.setTimestamp(1, Timestamp.from(receivedAt));
+            preparedStatement.setArray(2,
+                    preparedStatement.getConnection().createArrayOf("uuid", messageIds.toArray()));
+        }, resultSet -> {
+            insertedMessageIds.add(resultSet.getObject("message_id", UUID.class));
+        });
+        return insertedMessageIds;
+    }
+
+    public int deleteReceivedBefore(Instant receivedAt) {
+        return jdbcTemplate.update(DELETE_RECEIVED_BEFORE_SQL, Timestamp.from(receivedAt));
+    }
+}
@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.config.OrderStatusIndexConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.index.MappedOrderStatusIndex;
+import com.food.ordering.system.order.service.dataaccess.order.index.MappedOrderStatusIndex.OrderStatusRecord;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusIndex;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order-service.status-index", name = "enabled", havingValue = "true")
+public class MappedOrderStatusIndexAdapter implements OrderStatusIndex {
+
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+    private final MappedOrderStatusIndex mappedOrderStatusIndex;
+    private final Clock clock;
+    private final long maxEntryAgeMillis;
+    private final Counter rejectedCounter;
+
+    public MappedOrderStatusIndexAdapter(OrderStatusIndexConfigData orderStatusIndexConfigData,
+                                         Clock clock,
+                                         MeterRegistry meterRegistry) {
+        if (orderStatusIndexConfigData.getMaxEntryAgeSeconds() == null
+                || orderStatusIndexConfigData.getMaxEntryAgeSeconds() <= 0) {
+            throw new IllegalArgumentException("order-service.status-index.max-entry-age-seconds must be positive: "
+                    + orderStatusIndexConfigData.getMaxEntryAgeSeconds());
+        }
+        Path path = Path.of(orderStatusIndexConfigData.getPath());
+        try {
+            this.mappedOrderStatusIndex = MappedOrderStatusIndex.open(path,
+                    orderStatusIndexConfigData.getCapacity(), orderStatusIndexConfigData.getMaxLoadFactor());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open order status index at " + path, e);
+        }
+        log.info("Opened order status index at {} with {} entries, recovered: {}",
+                path, mappedOrderStatusIndex.size(), mappedOrderStatusIndex.isRecovered());
+        this.clock = clock;
+        this.maxEntryAgeMillis = orderStatusIndexConfigData.getMaxEntryAgeSeconds() * 1000L;
+        this.rejectedCounter = Counter.builder("order.status-index.rejected")
+                .description("Orders not indexed because the index is at its load limit")
+                .register(meterRegistry);
+        Gauge.builder("order.status-index.size", mappedOrderStatusIndex, MappedOrderStatusIndex::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<TrackOrderResponse> findOrderTracking(TrackingId trackingId) {
+        OrderStatusRecord orderStatusRecord = mappedOrderStatusIndex.get(trackingId.getValue());
+        if (orderStatusRecord == null || isTooOld(orderStatusRecord)) {
+            return Optional.empty();
+        }
+        return Optional.of(TrackOrderResponse.builder()
+                .orderTrackingId(trackingId.getValue())
+                .orderStatus(ORDER_STATUSES[orderStatusRecord.statusOrdinal()])
+                .failureMessages(List.of())
+                .build());
+    }
+
+    @Override
+    public void put(Order order) {
+        boolean indexed = mappedOrderStatusIndex.put(order.getTrackingId().getValue(), order.getId().getValue(),
+                order.getOrderStatus().ordinal(), clock.millis());
+        if (!indexed) {
+            rejectedCounter.increment();
+            log.debug("Order status index is full, order {} is not indexed", order.getId().getValue());
+        }
+    }
+
+    @Override
+    public void remove(TrackingId trackingId) {
+        mappedOrderStatusIndex.remove(trackingId.getValue());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        mappedOrderStatusIndex.close();
+    }
+
+    private boolean isTooOld(OrderStatusRecord orderStatusRecord) {
+        return clock.millis() - orderStatusRecord.updatedAtMillis() > maxEntryAgeMillis;
+    }
+}
@@ -1,11 +1,22 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderStatusJdbcRepository;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.transition.OrderStatusTransition;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +25,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final OrderStatusJdbcRepository orderStatusJdbcRepository;
     private final OrderDataAccessMapper orderDataAccessMapper;
 
-    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper) {
+    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository,
+                               OrderStatusJdbcRepository orderStatusJdbcRepository,
+                               OrderDataAccessMapper orderDataAccessMapper) {
         this.orderJpaRepository = orderJpaRepository;
+        this.orderStatusJdbcRepository = orderStatusJdbcRepository;
         this.orderDataAccessMapper = orderDataAccessMapper;
     }
 
@@ -29,9 +44,69 @@ public class OrderRepositoryImpl implements OrderRepository {
         );
     }
 
+    @Transactional
+    @Override
+    public List<Order> insertAll(List<Order> orders) {
+        return orderJpaRepository.saveAll(orders.stream().map(orderDataAccessMapper::toNewOrderEntity).toList())
+                .stream()
+                .map(orderDataAccessMapper::toOrder)
+                .toList();
+    }
+
+    /**
+     * The orders were normally loaded by {@link #findOrders} in the same transaction, so the managed entities are
+     * updated in place and flushed as one JDBC batch on commit instead of being merged. An order read from an older
+     * version fails here; a concurrent writer fails the versioned UPDATE at flush.
+     */
+    @Transactional
+    @Override
+    public void updateAll(List<Order> orders) {
+        for (Order order : orders) {
+            OrderEntity orderEntity = orderJpaRepository.getById(order.getId().getValue());
+            if (!Objects.equals(orderEntity.getVersion(), order.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(OrderEntity.class, order.getId().getValue());
+            }
+            orderDataAccessMapper.updateOrderEntityStatus(orderEntity, order);
+        }
+    }
+
+    @Transactional
+    @Override
+    public List<OrderStatusTransition> approveOrders(Collection<UUID> orderIds) {
+        return orderStatusJdbcRepository.updateStatus(orderIds, OrderStatus.PAID, OrderStatus.APPROVED);
+    }
+
+    @Transactional
+    @Override
+    public List<OrderStatusTransition> initCancelOrders(Map<UUID, List<String>> failureMessagesByOrderId) {
+        UUID[] orderIds = new UUID[failureMessagesByOrderId.size()];
+        String[] failureMessages = new String[failureMessagesByOrderId.size()];
+        int index = 0;
+        for (Map.Entry<UUID, List<String>> entry : failureMessagesByOrderId.entrySet()) {
+            orderIds[index] = entry.getKey();
+            failureMessages[index] = orderDataAccessMapper.toFailureMessagesColumn(entry.getValue());
+            index++;
+        }
+        return orderStatusJdbcRepository.updateStatus(orderIds, failureMessages, OrderStatus.PAID,
+                OrderStatus.CANCELLING);
+    }
+
+    @Override
+    public List<Order> findOrders(Collection<UUID> orderIds) {
+        return orderJpaRepository.findWithItemsByIdIn(orderIds).stream()
+                .map(orderDataAccessMapper::toOrder)
+                .toList();
+    }
+
     @Override
     public Optional<Order> findByTrackingId(TrackingId trackingId) {
         return orderJpaRepository.findByTrackingId(trackingId.getValue())
                 .map(orderDataAccessMapper::toOrder);
     }
+
+    @Override
+    public Optional<TrackOrderResponse> findOrderTracking(TrackingId trackingId) {
+        return orderJpaRepository.findTrackingByTrackingId(trackingId.getValue())
+                .map(orderDataAccessMapper::orderTrackingProjectionToTrackOrderResponse);
+    }
 }
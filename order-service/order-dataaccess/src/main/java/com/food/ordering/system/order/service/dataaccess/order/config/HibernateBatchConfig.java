@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.dataaccess.order.config;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+public class HibernateBatchConfig {
+
+    private final OrderPersistenceConfigData orderPersistenceConfigData;
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, orderPersistenceConfigData.getJdbcBatchSize());
+            hibernateProperties.put(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.put(AvailableSettings.ORDER_UPDATES, true);
+            hibernateProperties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
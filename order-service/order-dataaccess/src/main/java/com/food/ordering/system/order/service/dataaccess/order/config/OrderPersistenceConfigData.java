@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.dataaccess.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.persistence")
+public class OrderPersistenceConfigData {
+    private Integer jdbcBatchSize = 50;
+}
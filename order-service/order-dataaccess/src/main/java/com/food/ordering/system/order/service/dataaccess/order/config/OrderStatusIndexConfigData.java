@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.dataaccess.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.status-index")
+public class OrderStatusIndexConfigData {
+    private Boolean enabled = false;
+    private String path = "data/order-status.idx";
+    private Integer capacity = 1 << 25;
+    private Double maxLoadFactor = 0.75;
+    /**
+     * Entries older than this are not served, which bounds how stale a state written by another instance can get. Must
+     * be positive; the default matches the tracking cache TTL.
+     */
+    private Long maxEntryAgeSeconds = 60L;
+}
@@ -11,15 +11,19 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 @Getter
 @Setter
@@ -27,9 +31,11 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "orders_tracking_id_uidx", columnList = "tracking_id", unique = true)
+})
 @EqualsAndHashCode(of = "id")
-public class OrderEntity {
+public class OrderEntity implements Persistable<UUID> {
     @Id
     @Column(name = "order_id")
     private UUID id;
@@ -52,4 +58,18 @@ public class OrderEntity {
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderItemEntity> items;
+
+    // the default backfills orders written before the column existed, a NULL version is never checked by Hibernate
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    // ids are assigned by the application, so new orders are flagged explicitly to get a plain insert instead of merge
+    @Transient
+    private boolean newOrder;
+
+    @Override
+    public boolean isNew() {
+        return newOrder;
+    }
 }
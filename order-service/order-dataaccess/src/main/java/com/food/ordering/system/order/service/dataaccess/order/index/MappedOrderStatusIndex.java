@@ -0,0 +1,341 @@
+package com.food.ordering.system.order.service.dataaccess.order.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Memory-mapped open-addressing hash table from tracking id to order id, status ordinal and last update time.
+ *
+ * <p>Records are 48 bytes in a file of {@code capacity} slots, split over several mappings because a single mapping
+ * is limited to 2GB. Collisions use linear probing and removal shifts the following records back, so no tombstones
+ * are left behind. Writes are serialized, reads are optimistic and retried under the read lock only when a write
+ * raced with them.
+ *
+ * <p>The header carries a clean flag that is only set by {@link #close()}. A file that was not closed cleanly, or was
+ * written with another capacity, is truncated on open instead of being scanned, since it may miss updates.
+ */
+public final class MappedOrderStatusIndex implements Closeable {
+
+    static final int RECORD_SIZE = 48;
+    static final int CLEAN_OFFSET = 24;
+
+    private static final long MAGIC = 0x4F52445253545331L;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int MAX_SEGMENT_SLOTS = 1 << 24;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+
+    private static final int KEY_MSB_OFFSET = 0;
+    private static final int KEY_LSB_OFFSET = 8;
+    private static final int ORDER_MSB_OFFSET = 16;
+    private static final int ORDER_LSB_OFFSET = 24;
+    private static final int STATE_OFFSET = 32;
+    private static final int STATUS_OFFSET = 36;
+    private static final int UPDATED_AT_OFFSET = 40;
+
+    private static final int EMPTY = 0;
+    private static final int LIVE = 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] segments;
+    private final int capacity;
+    private final int mask;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final long maxSize;
+    private final boolean recovered;
+    private final StampedLock lock = new StampedLock();
+
+    private long size;
+    private boolean closed;
+
+    private MappedOrderStatusIndex(FileChannel channel, int capacity, double maxLoadFactor, int maxSegmentSlots)
+            throws IOException {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        int segmentSlots = Math.min(capacity, maxSegmentSlots);
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentSlots);
+        this.segmentMask = segmentSlots - 1;
+        this.maxSize = (long) (capacity * maxLoadFactor);
+
+        this.recovered = isReusable(channel, capacity);
+        if (!recovered) {
+            channel.truncate(0);
+        }
+        header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+        segments = new MappedByteBuffer[capacity / segmentSlots];
+        long segmentBytes = (long) segmentSlots * RECORD_SIZE;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = channel.map(MapMode.READ_WRITE, HEADER_SIZE + i * segmentBytes, segmentBytes);
+        }
+        if (!recovered) {
+            header.putLong(MAGIC_OFFSET, MAGIC);
+            header.putInt(VERSION_OFFSET, VERSION);
+            header.putInt(CAPACITY_OFFSET, capacity);
+            header.putLong(SIZE_OFFSET, 0L);
+        }
+        size = header.getLong(SIZE_OFFSET);
+        header.putInt(CLEAN_OFFSET, 0);
+        header.force();
+    }
+
+    public static MappedOrderStatusIndex open(Path path, int capacity, double maxLoadFactor) throws IOException {
+        return open(path, capacity, maxLoadFactor, MAX_SEGMENT_SLOTS);
+    }
+
+    /**
+     * Opens the index with at most {@code maxSegmentSlots} slots per mapping, so tests can cross segment boundaries.
+     */
+    static MappedOrderStatusIndex open(Path path, int capacity, double maxLoadFactor, int maxSegmentSlots)
+            throws IOException {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        if (maxLoadFactor <= 0 || maxLoadFactor >= 1) {
+            throw new IllegalArgumentException("Max load factor must be between 0 and 1: " + maxLoadFactor);
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedOrderStatusIndex(channel, capacity, maxLoadFactor, maxSegmentSlots);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the record for the tracking id, or null when it is not indexed.
+     */
+    public OrderStatusRecord get(UUID trackingId) {
+        long msb = trackingId.getMostSignificantBits();
+        long lsb = trackingId.getLeastSignificantBits();
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            OrderStatusRecord record = probe(msb, lsb);
+            if (lock.validate(stamp)) {
+                return record;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return probe(msb, lsb);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Inserts or replaces the record. Returns false when the index is at its load limit and the tracking id is new.
+     */
+    public boolean put(UUID trackingId, UUID orderId, int statusOrdinal, long updatedAtMillis) {
+        long msb = trackingId.getMostSignificantBits();
+        long lsb = trackingId.getLeastSignificantBits();
+        long stamp = lock.writeLock();
+        try {
+            int index = slot(msb, lsb);
+            while (true) {
+                ByteBuffer segment = segment(index);
+                int offset = offset(index);
+                if (segment.getInt(offset + STATE_OFFSET) == EMPTY) {
+                    if (size >= maxSize) {
+                        return false;
+                    }
+                    segment.putLong(offset + KEY_MSB_OFFSET, msb);
+                    segment.putLong(offset + KEY_LSB_OFFSET, lsb);
+                    writeValue(segment, offset, orderId, statusOrdinal, updatedAtMillis);
+                    segment.putInt(offset + STATE_OFFSET, LIVE);
+                    header.putLong(SIZE_OFFSET, ++size);
+                    return true;
+                }
+                if (segment.getLong(offset + KEY_MSB_OFFSET) == msb
+                        && segment.getLong(offset + KEY_LSB_OFFSET) == lsb) {
+                    writeValue(segment, offset, orderId, statusOrdinal, updatedAtMillis);
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(UUID trackingId) {
+        long msb = trackingId.getMostSignificantBits();
+        long lsb = trackingId.getLeastSignificantBits();
+        long stamp = lock.writeLock();
+        try {
+            int hole = find(msb, lsb);
+            if (hole < 0) {
+                return false;
+            }
+            int index = hole;
+            while (true) {
+                index = (index + 1) & mask;
+                ByteBuffer segment = segment(index);
+                int offset = offset(index);
+                if (segment.getInt(offset + STATE_OFFSET) == EMPTY) {
+                    break;
+                }
+                int home = slot(segment.getLong(offset + KEY_MSB_OFFSET), segment.getLong(offset + KEY_LSB_OFFSET));
+                boolean reachableFromHole = hole <= index
+                        ? hole < home && home <= index
+                        : hole < home || home <= index;
+                if (!reachableFromHole) {
+                    copy(index, hole);
+                    hole = index;
+                }
+            }
+            segment(hole).putInt(offset(hole) + STATE_OFFSET, EMPTY);
+            header.putLong(SIZE_OFFSET, --size);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public long size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * True when the entries of a previous, cleanly closed run were kept.
+     */
+    public boolean isRecovered() {
+        return recovered;
+    }
+
+    @Override
+    public void close() throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+            header.putInt(CLEAN_OFFSET, 1);
+            header.force();
+            channel.close();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private OrderStatusRecord probe(long msb, long lsb) {
+        int index = slot(msb, lsb);
+        for (int probes = 0; probes < capacity; probes++) {
+            ByteBuffer segment = segment(index);
+            int offset = offset(index);
+            if (segment.getInt(offset + STATE_OFFSET) == EMPTY) {
+                return null;
+            }
+            if (segment.getLong(offset + KEY_MSB_OFFSET) == msb && segment.getLong(offset + KEY_LSB_OFFSET) == lsb) {
+                return new OrderStatusRecord(
+                        new UUID(segment.getLong(offset + ORDER_MSB_OFFSET), segment.getLong(offset + ORDER_LSB_OFFSET)),
+                        segment.getInt(offset + STATUS_OFFSET),
+                        segment.getLong(offset + UPDATED_AT_OFFSET));
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private int find(long msb, long lsb) {
+        int index = slot(msb, lsb);
+        while (true) {
+            ByteBuffer segment = segment(index);
+            int offset = offset(index);
+            if (segment.getInt(offset + STATE_OFFSET) == EMPTY) {
+                return -1;
+            }
+            if (segment.getLong(offset + KEY_MSB_OFFSET) == msb && segment.getLong(offset + KEY_LSB_OFFSET) == lsb) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void copy(int from, int to) {
+        ByteBuffer source = segment(from);
+        ByteBuffer target = segment(to);
+        int sourceOffset = offset(from);
+        int targetOffset = offset(to);
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+        }
+    }
+
+    private static void writeValue(ByteBuffer segment, int offset, UUID orderId, int statusOrdinal,
+                                   long updatedAtMillis) {
+        segment.putLong(offset + ORDER_MSB_OFFSET, orderId.getMostSignificantBits());
+        segment.putLong(offset + ORDER_LSB_OFFSET, orderId.getLeastSignificantBits());
+        segment.putInt(offset + STATUS_OFFSET, statusOrdinal);
+        segment.putLong(offset + UPDATED_AT_OFFSET, updatedAtMillis);
+    }
+
+    private ByteBuffer segment(int index) {
+        return segments[index >>> segmentShift];
+    }
+
+    private int offset(int index) {
+        return (index & segmentMask) * RECORD_SIZE;
+    }
+
+    int slot(long msb, long lsb) {
+        long hash = msb ^ lsb;
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private static boolean isReusable(FileChannel channel, int capacity) throws IOException {
+        if (channel.size() != HEADER_SIZE + (long) capacity * RECORD_SIZE) {
+            return false;
+        }
+        ByteBuffer fileHeader = ByteBuffer.allocate(HEADER_SIZE);
+        while (fileHeader.hasRemaining()) {
+            if (channel.read(fileHeader, fileHeader.position()) < 0) {
+                return false;
+            }
+        }
+        return fileHeader.getLong(MAGIC_OFFSET) == MAGIC
+                && fileHeader.getInt(VERSION_OFFSET) == VERSION
+                && fileHeader.getInt(CAPACITY_OFFSET) == capacity
+                && fileHeader.getInt(CLEAN_OFFSET) == 1;
+    }
+
+    public record OrderStatusRecord(UUID orderId, int statusOrdinal, long updatedAtMillis) {
+    }
+}
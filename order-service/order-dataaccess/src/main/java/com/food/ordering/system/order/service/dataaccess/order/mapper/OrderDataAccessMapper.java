@@ -11,6 +11,8 @@ import com.food.ordering.system.domain.vo.RestaurantId;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderTrackingProjection;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Order.OrderBuilder;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
@@ -20,6 +22,7 @@ import com.food.ordering.system.order.service.domain.vo.StreetAddress;
 import com.food.ordering.system.order.service.domain.vo.TrackingId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
@@ -40,6 +43,7 @@ public class OrderDataAccessMapper {
                 .failureMessages(order.getFailureMessages() != null ?
                         String.join(FAILURE_MESSAGES_DELIMITER, order.getFailureMessages()) : ""
                 )
+                .version(order.getVersion())
                 .build();
 
         orderEntity.getAddress().setOrder(orderEntity);
@@ -48,6 +52,30 @@ public class OrderDataAccessMapper {
         return orderEntity;
     }
 
+    public void updateOrderEntityStatus(OrderEntity orderEntity, Order order) {
+        orderEntity.setOrderStatus(order.getOrderStatus());
+        orderEntity.setFailureMessages(order.getFailureMessages() != null ?
+                String.join(FAILURE_MESSAGES_DELIMITER, order.getFailureMessages()) : "");
+    }
+
+    /**
+     * Non-empty messages joined the way {@link Order#initCancel} would add them.
+     */
+    public String toFailureMessagesColumn(List<String> failureMessages) {
+        if (failureMessages == null) {
+            return "";
+        }
+        return failureMessages.stream()
+                .filter(failureMessage -> failureMessage != null && !failureMessage.isEmpty())
+                .collect(Collectors.joining(FAILURE_MESSAGES_DELIMITER));
+    }
+
+    public OrderEntity toNewOrderEntity(Order order) {
+        OrderEntity orderEntity = toOrderEntity(order);
+        orderEntity.setNewOrder(true);
+        return orderEntity;
+    }
+
     private OrderAddressEntity deliveryAddressToAddressEntity(StreetAddress deliveryAddress) {
         return OrderAddressEntity.builder()
                 .id(deliveryAddress.getId())
@@ -85,6 +113,19 @@ public class OrderDataAccessMapper {
                         : new ArrayList<>()
                 )
                 .items(orderItemEntitiesToOrderItems(orderEntity.getItems()))
+                .version(orderEntity.getVersion())
+                .build();
+    }
+
+    public TrackOrderResponse orderTrackingProjectionToTrackOrderResponse(OrderTrackingProjection orderTracking) {
+        String failureMessages = orderTracking.getFailureMessages();
+        return TrackOrderResponse.builder()
+                .orderTrackingId(orderTracking.getTrackingId())
+                .orderStatus(orderTracking.getOrderStatus())
+                .failureMessages(failureMessages == null || failureMessages.isEmpty() ?
+                        Collections.emptyList() :
+                        Arrays.asList(failureMessages.split(FAILURE_MESSAGES_DELIMITER))
+                )
                 .build();
     }
 
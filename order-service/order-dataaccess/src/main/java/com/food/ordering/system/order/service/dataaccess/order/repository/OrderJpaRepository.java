@@ -1,13 +1,24 @@
 package com.food.ordering.system.order.service.dataaccess.order.repository;
 
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
     Optional<OrderEntity> findByTrackingId(UUID trackingId);
+
+    @Query("SELECT DISTINCT o FROM OrderEntity o JOIN FETCH o.items LEFT JOIN FETCH o.address WHERE o.id IN :ids")
+    List<OrderEntity> findWithItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT o.trackingId AS trackingId, o.orderStatus AS orderStatus, o.failureMessages AS failureMessages "
+            + "FROM OrderEntity o WHERE o.trackingId = :trackingId")
+    Optional<OrderTrackingProjection> findTrackingByTrackingId(@Param("trackingId") UUID trackingId);
 }
@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGES_DELIMITER;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.transition.OrderStatusTransition;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Guarded set-based status updates. Each statement only touches rows still in the expected status and returns the
+ * rows it changed, so the caller learns which orders matched in the same round trip. The version column is bumped so
+ * JPA writers holding the old state fail their optimistic check, a row still without a version starts at 1. Runs on
+ * the connection of the surrounding JPA transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusJdbcRepository {
+
+    private static final String RETURNING_COLUMNS =
+            "RETURNING o.order_id, o.tracking_id, o.customer_id, o.price, o.order_status, o.failure_messages";
+
+    private static final String UPDATE_STATUS_SQL = "UPDATE orders o SET order_status = ?, "
+            + "version = COALESCE(o.version, 0) + 1 "
+            + "WHERE o.order_id = ANY (?) AND o.order_status = ? "
+            + RETURNING_COLUMNS;
+
+    private static final String UPDATE_STATUS_WITH_FAILURE_MESSAGES_SQL = "UPDATE orders o SET order_status = ?, "
+            + "version = COALESCE(o.version, 0) + 1, "
+            + "failure_messages = concat_ws(?, NULLIF(o.failure_messages, ''), NULLIF(m.failure_messages, '')) "
+            + "FROM unnest(?, ?) AS m(order_id, failure_messages) "
+            + "WHERE o.order_id = m.order_id AND o.order_status = ? "
+            + RETURNING_COLUMNS;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<OrderStatusTransition> updateStatus(Collection<UUID> orderIds,
+                                                    OrderStatus expectedStatus,
+                                                    OrderStatus newStatus) {
+        return jdbcTemplate.query(UPDATE_STATUS_SQL, preparedStatement -> {
+            preparedStatement.setString(1, newStatus.name());
+            preparedStatement.setArray(2,
+                    preparedStatement.getConnection().createArrayOf("uuid", orderIds.toArray()));
+            preparedStatement.setString(3, expectedStatus.name());
+        }, this::toOrderStatusTransition);
+    }
+
+    /**
+     * Like {@link #updateStatus} and appends {@code failureMessages[i]} to the messages of {@code orderIds[i]}.
+     */
+    public List<OrderStatusTransition> updateStatus(UUID[] orderIds,
+                                                    String[] failureMessages,
+                                                    OrderStatus expectedStatus,
+                                                    OrderStatus newStatus) {
+        return jdbcTemplate.query(UPDATE_STATUS_WITH_FAILURE_MESSAGES_SQL, preparedStatement -> {
+            preparedStatement.setString(1, newStatus.name());
+            preparedStatement.setString(2, FAILURE_MESSAGES_DELIMITER);
+            preparedStatement.setArray(3, preparedStatement.getConnection().createArrayOf("uuid", orderIds));
+            preparedStatement.setArray(4, preparedStatement.getConnection().createArrayOf("text", failureMessages));
+            preparedStatement.setString(5, expectedStatus.name());
+        }, this::toOrderStatusTransition);
+    }
+
+    private OrderStatusTransition toOrderStatusTransition(ResultSet resultSet, int rowNum) throws SQLException {
+        String failureMessages = resultSet.getString("failure_messages");
+        return OrderStatusTransition.builder()
+                .orderId(resultSet.getObject("order_id", UUID.class))
+                .trackingId(resultSet.getObject("tracking_id", UUID.class))
+                .customerId(resultSet.getObject("customer_id", UUID.class))
+                .price(resultSet.getBigDecimal("price"))
+                .orderStatus(OrderStatus.valueOf(resultSet.getString("order_status")))
+                .failureMessages(failureMessages == null || failureMessages.isEmpty() ?
+                        Collections.emptyList() :
+                        Arrays.asList(failureMessages.split(FAILURE_MESSAGES_DELIMITER)))
+                .build();
+    }
+}
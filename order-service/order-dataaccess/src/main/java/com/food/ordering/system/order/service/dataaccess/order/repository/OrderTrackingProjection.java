@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import java.util.UUID;
+
+public interface OrderTrackingProjection {
+    UUID getTrackingId();
+
+    OrderStatus getOrderStatus();
+
+    String getFailureMessages();
+}
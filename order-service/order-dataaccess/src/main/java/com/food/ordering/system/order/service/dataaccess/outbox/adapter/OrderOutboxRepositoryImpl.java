@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.mapper.OrderOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.repository.OrderOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
+
+    private final OrderOutboxJpaRepository orderOutboxJpaRepository;
+    private final OrderOutboxDataAccessMapper orderOutboxDataAccessMapper;
+
+    public OrderOutboxRepositoryImpl(OrderOutboxJpaRepository orderOutboxJpaRepository,
+                                     OrderOutboxDataAccessMapper orderOutboxDataAccessMapper) {
+        this.orderOutboxJpaRepository = orderOutboxJpaRepository;
+        this.orderOutboxDataAccessMapper = orderOutboxDataAccessMapper;
+    }
+
+    @Transactional
+    @Override
+    public void saveAll(List<OrderOutboxMessage> outboxMessages) {
+        orderOutboxJpaRepository.saveAll(outboxMessages.stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxMessageToNewOrderOutboxEntity)
+                .toList());
+    }
+
+    @Transactional
+    @Override
+    public List<OrderOutboxMessage> claimStartedMessages(int batchSize) {
+        return orderOutboxJpaRepository.claimStarted(batchSize).stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .toList();
+    }
+
+    @Transactional
+    @Override
+    public int markCompleted(List<UUID> outboxMessageIds, Instant processedAt) {
+        return orderOutboxJpaRepository.updateOutboxStatus(outboxMessageIds, OutboxStatus.COMPLETED, processedAt);
+    }
+
+    @Transactional
+    @Override
+    public int markFailed(List<UUID> outboxMessageIds, Instant processedAt) {
+        return orderOutboxJpaRepository.updateOutboxStatus(outboxMessageIds, OutboxStatus.FAILED, processedAt);
+    }
+
+    @Override
+    public Optional<Instant> findOldestStartedCreatedAt() {
+        return Optional.ofNullable(orderOutboxJpaRepository.findOldestCreatedAt(OutboxStatus.STARTED));
+    }
+}
@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.entity;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxMessageType;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import java.time.Instant;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "order_outbox_status_created_at_idx", columnList = "outbox_status, created_at")
+})
+@EqualsAndHashCode(of = "id")
+public class OrderOutboxEntity implements Persistable<UUID> {
+    @Id
+    private UUID id;
+
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxMessageType type;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private Instant createdAt;
+
+    private Instant processedAt;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus outboxStatus;
+
+    @Transient
+    private boolean newMessage;
+
+    @Override
+    public boolean isNew() {
+        return newMessage;
+    }
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderOutboxDataAccessMapper {
+
+    public OrderOutboxEntity orderOutboxMessageToNewOrderOutboxEntity(OrderOutboxMessage orderOutboxMessage) {
+        return OrderOutboxEntity.builder()
+                .id(orderOutboxMessage.getId())
+                .orderId(orderOutboxMessage.getOrderId())
+                .type(orderOutboxMessage.getType())
+                .payload(orderOutboxMessage.getPayload())
+                .createdAt(orderOutboxMessage.getCreatedAt())
+                .processedAt(orderOutboxMessage.getProcessedAt())
+                .outboxStatus(orderOutboxMessage.getOutboxStatus())
+                .newMessage(true)
+                .build();
+    }
+
+    public OrderOutboxMessage orderOutboxEntityToOrderOutboxMessage(OrderOutboxEntity orderOutboxEntity) {
+        return OrderOutboxMessage.builder()
+                .id(orderOutboxEntity.getId())
+                .orderId(orderOutboxEntity.getOrderId())
+                .type(orderOutboxEntity.getType())
+                .payload(orderOutboxEntity.getPayload())
+                .createdAt(orderOutboxEntity.getCreatedAt())
+                .processedAt(orderOutboxEntity.getProcessedAt())
+                .outboxStatus(orderOutboxEntity.getOutboxStatus())
+                .build();
+    }
+}
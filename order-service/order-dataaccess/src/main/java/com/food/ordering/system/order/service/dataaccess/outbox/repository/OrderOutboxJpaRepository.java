@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.repository;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntity, UUID> {
+
+    @Query(value = "SELECT * FROM order_outbox WHERE outbox_status = 'STARTED' ORDER BY created_at "
+            + "LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderOutboxEntity> claimStarted(@Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("UPDATE OrderOutboxEntity o SET o.outboxStatus = :outboxStatus, o.processedAt = :processedAt "
+            + "WHERE o.id IN :ids")
+    int updateOutboxStatus(@Param("ids") Collection<UUID> ids,
+                           @Param("outboxStatus") OutboxStatus outboxStatus,
+                           @Param("processedAt") Instant processedAt);
+
+    @Query("SELECT MIN(o.createdAt) FROM OrderOutboxEntity o WHERE o.outboxStatus = :outboxStatus")
+    Instant findOldestCreatedAt(@Param("outboxStatus") OutboxStatus outboxStatus);
+}
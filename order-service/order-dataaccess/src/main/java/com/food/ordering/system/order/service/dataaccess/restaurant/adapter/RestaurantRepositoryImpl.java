@@ -1,11 +1,18 @@
 package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
 
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantMenu;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantMenuCache;
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantMenuCacheConfigData;
 import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
 import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.stereotype.Component;
@@ -15,20 +22,58 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
 
     private final RestaurantJpaRepository restaurantJpaRepository;
     private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+    private final RestaurantMenuCache restaurantMenuCache;
+    private final RestaurantMenuCacheConfigData restaurantMenuCacheConfigData;
 
     public RestaurantRepositoryImpl(RestaurantJpaRepository restaurantJpaRepository,
-                                    RestaurantDataAccessMapper restaurantDataAccessMapper) {
+                                    RestaurantDataAccessMapper restaurantDataAccessMapper,
+                                    RestaurantMenuCache restaurantMenuCache,
+                                    RestaurantMenuCacheConfigData restaurantMenuCacheConfigData) {
         this.restaurantJpaRepository = restaurantJpaRepository;
         this.restaurantDataAccessMapper = restaurantDataAccessMapper;
+        this.restaurantMenuCache = restaurantMenuCache;
+        this.restaurantMenuCacheConfigData = restaurantMenuCacheConfigData;
     }
 
     @Override
     public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
         List<UUID> restaurantProducts = restaurantDataAccessMapper.restaurantToRestaurantProductIds(restaurant);
+        if (restaurantMenuCacheConfigData.getEnabled()) {
+            return restaurantMenuCache.findMenu(restaurant.getId())
+                    .map(restaurantMenu ->
+                            restaurantDataAccessMapper.restaurantMenuToRestaurant(restaurantMenu, restaurantProducts));
+        }
         Optional<List<RestaurantEntity>> restaurantEntities = restaurantJpaRepository.findByRestaurantIdAndProductIdIn(
                 restaurant.getId().getValue(),
                 restaurantProducts
         );
         return restaurantEntities.map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
     }
+
+    @Override
+    public List<Restaurant> findRestaurantsInformation(List<Restaurant> restaurants) {
+        List<UUID> restaurantIds = new ArrayList<>(restaurants.size());
+        Set<UUID> productIds = new HashSet<>();
+        for (Restaurant restaurant : restaurants) {
+            restaurantIds.add(restaurant.getId().getValue());
+            productIds.addAll(restaurantDataAccessMapper.restaurantToRestaurantProductIds(restaurant));
+        }
+
+        if (!restaurantMenuCacheConfigData.getEnabled()) {
+            return restaurantDataAccessMapper.restaurantEntitiesToRestaurants(
+                    restaurantJpaRepository.findByRestaurantIdInAndProductIdIn(restaurantIds, productIds));
+        }
+
+        Map<UUID, RestaurantMenu> restaurantMenus = restaurantMenuCache.findMenus(restaurantIds);
+        List<Restaurant> restaurantsInformation = new ArrayList<>(restaurantMenus.size());
+        for (Restaurant restaurant : restaurants) {
+            RestaurantMenu restaurantMenu = restaurantMenus.get(restaurant.getId().getValue());
+            if (restaurantMenu != null) {
+                restaurantDataAccessMapper.restaurantMenuToRestaurantWithProducts(restaurantMenu,
+                                restaurantDataAccessMapper.restaurantToRestaurantProductIds(restaurant))
+                        .ifPresent(restaurantsInformation::add);
+            }
+        }
+        return restaurantsInformation;
+    }
 }
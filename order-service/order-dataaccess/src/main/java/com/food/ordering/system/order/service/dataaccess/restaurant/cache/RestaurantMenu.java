@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.domain.vo.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of a restaurant's whole menu, indexed by product id. {@code version} increases every time a
+ * menu is (re)loaded from the database.
+ */
+@Getter
+public class RestaurantMenu {
+    private final RestaurantId restaurantId;
+    private final boolean active;
+    private final Map<UUID, Product> products;
+    private final long version;
+
+    public RestaurantMenu(RestaurantId restaurantId, boolean active, Map<UUID, Product> products, long version) {
+        this.restaurantId = restaurantId;
+        this.active = active;
+        this.products = Collections.unmodifiableMap(products);
+        this.version = version;
+    }
+
+    public Product findProduct(UUID productId) {
+        return products.get(productId);
+    }
+}
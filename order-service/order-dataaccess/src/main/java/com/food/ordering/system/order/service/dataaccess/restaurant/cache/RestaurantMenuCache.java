@@ -0,0 +1,112 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.domain.vo.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.config.RestaurantMenuCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Whole-menu cache over restaurant.order_restaurant_m_view. Entries are refreshed in the background after
+ * refresh-after-write-seconds (the stale menu keeps being served until the reload completes) and dropped after
+ * expire-after-write-seconds. Unknown restaurants are not cached. Every load stamps the menu with the next version,
+ * and a changed menu can be dropped right away through {@link RestaurantMenuCacheEndpoint} instead of waiting for the
+ * refresh.
+ */
+@Slf4j
+@Component
+public class RestaurantMenuCache {
+
+    private static final String CACHE_NAME = "order.restaurant-menus";
+
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+    private final AtomicLong menuVersion = new AtomicLong();
+    private final LoadingCache<UUID, RestaurantMenu> menuCache;
+
+    public RestaurantMenuCache(RestaurantJpaRepository restaurantJpaRepository,
+                               RestaurantDataAccessMapper restaurantDataAccessMapper,
+                               RestaurantMenuCacheConfigData restaurantMenuCacheConfigData,
+                               MeterRegistry meterRegistry) {
+        this.restaurantJpaRepository = restaurantJpaRepository;
+        this.restaurantDataAccessMapper = restaurantDataAccessMapper;
+        this.menuCache = Caffeine.newBuilder()
+                .maximumSize(restaurantMenuCacheConfigData.getMaximumSize())
+                .refreshAfterWrite(Duration.ofSeconds(restaurantMenuCacheConfigData.getRefreshAfterWriteSeconds()))
+                .expireAfterWrite(Duration.ofSeconds(restaurantMenuCacheConfigData.getExpireAfterWriteSeconds()))
+                .recordStats()
+                .build(new RestaurantMenuLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, menuCache, CACHE_NAME);
+    }
+
+    public Optional<RestaurantMenu> findMenu(RestaurantId restaurantId) {
+        return Optional.ofNullable(menuCache.get(restaurantId.getValue()));
+    }
+
+    public Map<UUID, RestaurantMenu> findMenus(Collection<UUID> restaurantIds) {
+        return menuCache.getAll(restaurantIds);
+    }
+
+    public Map<UUID, Long> cachedVersions() {
+        Map<UUID, Long> versions = new HashMap<>();
+        menuCache.asMap().forEach((restaurantId, restaurantMenu) ->
+                versions.put(restaurantId, restaurantMenu.getVersion()));
+        return versions;
+    }
+
+    public void invalidate(RestaurantId restaurantId) {
+        log.info("Invalidating cached menu of restaurant with id: {}", restaurantId.getValue());
+        menuCache.invalidate(restaurantId.getValue());
+    }
+
+    public void invalidateAll() {
+        log.info("Invalidating all cached restaurant menus");
+        menuCache.invalidateAll();
+    }
+
+    private RestaurantMenu toRestaurantMenu(UUID restaurantId, List<RestaurantEntity> restaurantEntities) {
+        RestaurantMenu restaurantMenu = restaurantDataAccessMapper.restaurantEntitiesToRestaurantMenu(
+                restaurantEntities, menuVersion.incrementAndGet());
+        log.debug("Loaded menu of restaurant with id: {}, products: {}, version: {}", restaurantId,
+                restaurantMenu.getProducts().size(), restaurantMenu.getVersion());
+        return restaurantMenu;
+    }
+
+    private final class RestaurantMenuLoader implements CacheLoader<UUID, RestaurantMenu> {
+
+        @Override
+        public RestaurantMenu load(UUID restaurantId) {
+            List<RestaurantEntity> restaurantEntities = restaurantJpaRepository.findByRestaurantId(restaurantId);
+            return restaurantEntities.isEmpty() ? null : toRestaurantMenu(restaurantId, restaurantEntities);
+        }
+
+        @Override
+        public Map<UUID, RestaurantMenu> loadAll(Iterable<? extends UUID> restaurantIds) {
+            List<UUID> missingRestaurantIds = new ArrayList<>();
+            restaurantIds.forEach(missingRestaurantIds::add);
+
+            Map<UUID, RestaurantMenu> restaurantMenus = new HashMap<>(missingRestaurantIds.size() * 2);
+            restaurantDataAccessMapper.groupByRestaurantId(
+                            restaurantJpaRepository.findByRestaurantIdIn(missingRestaurantIds))
+                    .forEach((restaurantId, restaurantEntities) ->
+                            restaurantMenus.put(restaurantId, toRestaurantMenu(restaurantId, restaurantEntities)));
+            return restaurantMenus;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.domain.vo.RestaurantId;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/restaurantmenus} lists the version of every cached menu, {@code DELETE
+ * /actuator/restaurantmenus/<restaurantId>} drops one menu and {@code DELETE /actuator/restaurantmenus} all of them.
+ * Has to be exposed through management.endpoints.web.exposure.include.
+ */
+@Component
+@Endpoint(id = "restaurantmenus")
+@RequiredArgsConstructor
+public class RestaurantMenuCacheEndpoint {
+
+    private final RestaurantMenuCache restaurantMenuCache;
+
+    @ReadOperation
+    public Map<UUID, Long> versions() {
+        return restaurantMenuCache.cachedVersions();
+    }
+
+    @DeleteOperation
+    public void invalidate(@Selector String restaurantId) {
+        restaurantMenuCache.invalidate(new RestaurantId(UUID.fromString(restaurantId)));
+    }
+
+    @DeleteOperation
+    public void invalidateAll() {
+        restaurantMenuCache.invalidateAll();
+    }
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.restaurant-menu-cache")
+public class RestaurantMenuCacheConfigData {
+    private Boolean enabled = true;
+    private Long maximumSize = 10_000L;
+    private Long refreshAfterWriteSeconds = 60L;
+    private Long expireAfterWriteSeconds = 600L;
+}
@@ -4,11 +4,17 @@ package com.food.ordering.system.order.service.dataaccess.restaurant.mapper;
 import com.food.ordering.system.domain.vo.Money;
 import com.food.ordering.system.domain.vo.ProductId;
 import com.food.ordering.system.domain.vo.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.cache.RestaurantMenu;
 import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
 import com.food.ordering.system.order.service.dataaccess.restaurant.exception.RestaurantDataAccessException;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
@@ -43,4 +49,67 @@ public class RestaurantDataAccessMapper {
                 .active(restaurantEntity.getRestaurantActive())
                 .build();
     }
+
+    public RestaurantMenu restaurantEntitiesToRestaurantMenu(List<RestaurantEntity> restaurantEntities, long version) {
+        RestaurantEntity restaurantEntity =
+                restaurantEntities.stream().findFirst().orElseThrow(() ->
+                        new RestaurantDataAccessException("Restaurant could not be found!"));
+
+        Map<UUID, Product> products = new HashMap<>(restaurantEntities.size() * 2);
+        for (RestaurantEntity entity : restaurantEntities) {
+            products.put(entity.getProductId(), new Product(
+                    new ProductId(entity.getProductId()),
+                    entity.getProductName(),
+                    new Money(entity.getProductPrice())
+            ));
+        }
+
+        return new RestaurantMenu(
+                new RestaurantId(restaurantEntity.getRestaurantId()),
+                restaurantEntity.getRestaurantActive(),
+                products,
+                version
+        );
+    }
+
+    public List<Restaurant> restaurantEntitiesToRestaurants(List<RestaurantEntity> restaurantEntities) {
+        return groupByRestaurantId(restaurantEntities).values().stream()
+                .map(this::restaurantEntityToRestaurant)
+                .toList();
+    }
+
+    public Map<UUID, List<RestaurantEntity>> groupByRestaurantId(List<RestaurantEntity> restaurantEntities) {
+        Map<UUID, List<RestaurantEntity>> entitiesByRestaurant = new LinkedHashMap<>();
+        for (RestaurantEntity entity : restaurantEntities) {
+            entitiesByRestaurant.computeIfAbsent(entity.getRestaurantId(), restaurantId -> new ArrayList<>())
+                    .add(entity);
+        }
+        return entitiesByRestaurant;
+    }
+
+    public Restaurant restaurantMenuToRestaurant(RestaurantMenu restaurantMenu, List<UUID> productIds) {
+        return restaurantMenuToRestaurantWithProducts(restaurantMenu, productIds).orElseThrow(() ->
+                new RestaurantDataAccessException("Restaurant could not be found!"));
+    }
+
+    public Optional<Restaurant> restaurantMenuToRestaurantWithProducts(RestaurantMenu restaurantMenu,
+                                                                        List<UUID> productIds) {
+        List<Product> restaurantProducts = new ArrayList<>(productIds.size());
+        for (UUID productId : productIds) {
+            Product product = restaurantMenu.findProduct(productId);
+            if (product != null) {
+                // Product is mutable, so every order gets its own copy of the cached one.
+                restaurantProducts.add(new Product(product.getId(), product.getName(), product.getPrice()));
+            }
+        }
+        if (restaurantProducts.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Restaurant.Builder.builder()
+                .id(restaurantMenu.getRestaurantId())
+                .products(restaurantProducts)
+                .active(restaurantMenu.isActive())
+                .build());
+    }
 }
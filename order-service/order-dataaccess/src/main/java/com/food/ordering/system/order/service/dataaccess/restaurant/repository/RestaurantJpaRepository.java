@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.dataaccess.restaurant.repository;
 
 import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
 import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntityId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +12,11 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface RestaurantJpaRepository extends JpaRepository<RestaurantEntity, RestaurantEntityId> {
     Optional<List<RestaurantEntity>> findByRestaurantIdAndProductIdIn(UUID restaurantId, List<UUID> productIds);
+
+    List<RestaurantEntity> findByRestaurantId(UUID restaurantId);
+
+    List<RestaurantEntity> findByRestaurantIdIn(Collection<UUID> restaurantIds);
+
+    List<RestaurantEntity> findByRestaurantIdInAndProductIdIn(Collection<UUID> restaurantIds,
+                                                              Collection<UUID> productIds);
 }
@@ -0,0 +1,174 @@
+package com.food.ordering.system.order.service.dataaccess.order.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.food.ordering.system.order.service.dataaccess.order.index.MappedOrderStatusIndex.OrderStatusRecord;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedOrderStatusIndexTest {
+
+    private static final int CAPACITY = 16;
+    private static final int SEGMENT_SLOTS = 4;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCollidingKeysWrapAroundTheEndOfTheTable() throws Exception {
+        try (MappedOrderStatusIndex index = open(0.75)) {
+            List<UUID> trackingIds = keysWithHomeSlot(index, CAPACITY - 1, 3);
+            for (int i = 0; i < trackingIds.size(); i++) {
+                assertThat(index.put(trackingIds.get(i), orderId(i), i, 1_000L + i)).isTrue();
+            }
+
+            for (int i = 0; i < trackingIds.size(); i++) {
+                assertThat(index.get(trackingIds.get(i))).isEqualTo(new OrderStatusRecord(orderId(i), i, 1_000L + i));
+            }
+
+            assertThat(index.remove(trackingIds.get(0))).isTrue();
+            assertThat(index.get(trackingIds.get(0))).isNull();
+            assertThat(index.get(trackingIds.get(1))).isEqualTo(new OrderStatusRecord(orderId(1), 1, 1_001L));
+            assertThat(index.get(trackingIds.get(2))).isEqualTo(new OrderStatusRecord(orderId(2), 2, 1_002L));
+            assertThat(index.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testRemoveShiftsRecordsBackAcrossSegmentBoundary() throws Exception {
+        try (MappedOrderStatusIndex index = open(0.75)) {
+            List<UUID> trackingIds = keysWithHomeSlot(index, SEGMENT_SLOTS - 1, 3);
+            for (int i = 0; i < trackingIds.size(); i++) {
+                index.put(trackingIds.get(i), orderId(i), i, 1_000L + i);
+            }
+
+            assertThat(index.remove(trackingIds.get(1))).isTrue();
+
+            assertThat(index.get(trackingIds.get(0))).isEqualTo(new OrderStatusRecord(orderId(0), 0, 1_000L));
+            assertThat(index.get(trackingIds.get(1))).isNull();
+            assertThat(index.get(trackingIds.get(2))).isEqualTo(new OrderStatusRecord(orderId(2), 2, 1_002L));
+            assertThat(index.remove(trackingIds.get(0))).isTrue();
+            assertThat(index.get(trackingIds.get(2))).isEqualTo(new OrderStatusRecord(orderId(2), 2, 1_002L));
+            assertThat(index.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testPutReturnsFalseAtLoadLimitButStillUpdatesExistingKeys() throws Exception {
+        try (MappedOrderStatusIndex index = open(0.5)) {
+            List<UUID> trackingIds = new ArrayList<>();
+            for (int i = 0; i < CAPACITY / 2; i++) {
+                UUID trackingId = UUID.randomUUID();
+                trackingIds.add(trackingId);
+                assertThat(index.put(trackingId, orderId(i), 0, 1_000L)).isTrue();
+            }
+
+            assertThat(index.put(UUID.randomUUID(), orderId(99), 0, 1_000L)).isFalse();
+            assertThat(index.put(trackingIds.get(0), orderId(0), 1, 2_000L)).isTrue();
+            assertThat(index.get(trackingIds.get(0)).statusOrdinal()).isEqualTo(1);
+            assertThat(index.size()).isEqualTo(CAPACITY / 2);
+        }
+    }
+
+    @Test
+    public void testCleanCloseKeepsEntriesOnReopen() throws Exception {
+        UUID trackingId = UUID.randomUUID();
+        try (MappedOrderStatusIndex index = open(0.75)) {
+            index.put(trackingId, orderId(1), 1, 1_000L);
+        }
+
+        try (MappedOrderStatusIndex index = open(0.75)) {
+            assertThat(index.isRecovered()).isTrue();
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(index.get(trackingId)).isEqualTo(new OrderStatusRecord(orderId(1), 1, 1_000L));
+        }
+    }
+
+    @Test
+    public void testUncleanShutdownTruncatesOnReopen() throws Exception {
+        UUID trackingId = UUID.randomUUID();
+        try (MappedOrderStatusIndex index = open(0.75)) {
+            index.put(trackingId, orderId(1), 1, 1_000L);
+        }
+        try (FileChannel channel = FileChannel.open(indexPath(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES), MappedOrderStatusIndex.CLEAN_OFFSET);
+        }
+
+        try (MappedOrderStatusIndex index = open(0.75)) {
+            assertThat(index.isRecovered()).isFalse();
+            assertThat(index.size()).isZero();
+            assertThat(index.get(trackingId)).isNull();
+        }
+    }
+
+    @Test
+    public void testReaderSeesConsistentRecordsWhileWriterShiftsNeighbours() throws Exception {
+        try (MappedOrderStatusIndex index = open(0.75)) {
+            List<UUID> neighbours = keysWithHomeSlot(index, 5, 4);
+            UUID stable = neighbours.remove(neighbours.size() - 1);
+            OrderStatusRecord expected = new OrderStatusRecord(orderId(42), 2, 42_000L);
+            neighbours.forEach(trackingId -> index.put(trackingId, orderId(0), 0, 0L));
+            index.put(stable, expected.orderId(), expected.statusOrdinal(), expected.updatedAtMillis());
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> writer = executor.submit(() -> {
+                    int i = 0;
+                    while (running.get()) {
+                        UUID neighbour = neighbours.get(i++ % neighbours.size());
+                        index.remove(neighbour);
+                        index.put(neighbour, orderId(i), i % 4, i);
+                    }
+                });
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+                long reads = 0;
+                while (System.nanoTime() < deadline) {
+                    assertThat(index.get(stable)).isEqualTo(expected);
+                    reads++;
+                }
+                running.set(false);
+                writer.get(5, TimeUnit.SECONDS);
+                assertThat(reads).isPositive();
+            } finally {
+                running.set(false);
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private MappedOrderStatusIndex open(double maxLoadFactor) throws Exception {
+        return MappedOrderStatusIndex.open(indexPath(), CAPACITY, maxLoadFactor, SEGMENT_SLOTS);
+    }
+
+    private Path indexPath() {
+        return tempDir.resolve("order-status.idx");
+    }
+
+    private static List<UUID> keysWithHomeSlot(MappedOrderStatusIndex index, int slot, int count) {
+        List<UUID> trackingIds = new ArrayList<>(count);
+        while (trackingIds.size() < count) {
+            UUID trackingId = UUID.randomUUID();
+            if (index.slot(trackingId.getMostSignificantBits(), trackingId.getLeastSignificantBits()) == slot) {
+                trackingIds.add(trackingId);
+            }
+        }
+        return trackingIds;
+    }
+
+    private static UUID orderId(int i) {
+        return new UUID(0L, i);
+    }
+}
@@ -2,6 +2,8 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
@@ -15,11 +17,14 @@ import org.springframework.validation.annotation.Validated;
 class OrderApplicationServiceImpl implements OrderApplicationService {
 
     private final OrderCreateCommandHandler orderCreateCommandHandler;
+    private final OrderCreateBatchCommandHandler orderCreateBatchCommandHandler;
     private final OrderTrackCommandHandler orderTrackCommandHandler;
 
     public OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler,
+                                       OrderCreateBatchCommandHandler orderCreateBatchCommandHandler,
                                        OrderTrackCommandHandler orderTrackCommandHandler) {
         this.orderCreateCommandHandler = orderCreateCommandHandler;
+        this.orderCreateBatchCommandHandler = orderCreateBatchCommandHandler;
         this.orderTrackCommandHandler = orderTrackCommandHandler;
     }
 
@@ -29,6 +34,11 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
         return orderCreateCommandHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public CreateOrdersResponse createOrders(CreateOrdersCommand createOrdersCommand) {
+        return orderCreateBatchCommandHandler.createOrders(createOrdersCommand);
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return orderTrackCommandHandler.trackOrder(trackOrderQuery);
@@ -0,0 +1,179 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.vo.OrderApprovalStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.dto.transition.OrderStatusTransition;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.inbox.OrderInboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingRefresher;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderApprovalResponseHelper {
+    private final OrderDomainService orderDomainService;
+    private final OrderRepository orderRepository;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderInboxHelper orderInboxHelper;
+    private final OrderTrackingRefresher orderTrackingRefresher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Clock clock;
+
+    /**
+     * Applies one batch of approval responses in a single transaction and returns the cancel events still to be
+     * published. With the outbox enabled the cancel requests are written as outbox rows instead, and
+     * order-service.approval-bulk-update-enabled replaces loading the orders with two guarded UPDATE statements.
+     * Responses already recorded in the inbox are dropped first.
+     */
+    @Transactional
+    public List<OrderCancelledEvent> processApprovalResponses(
+            List<RestaurantApprovalResponse> receivedApprovalResponses) {
+        List<RestaurantApprovalResponse> approvalResponses =
+                orderInboxHelper.saveNew(receivedApprovalResponses, RestaurantApprovalResponse::getId);
+        if (approvalResponses.isEmpty()) {
+            return List.of();
+        }
+        if (orderServiceConfigData.getOutboxEnabled() && orderServiceConfigData.getApprovalBulkUpdateEnabled()) {
+            updateOrderStatuses(approvalResponses);
+            return List.of();
+        }
+        return loadAndUpdateOrders(approvalResponses);
+    }
+
+    /**
+     * The guards are the preconditions of {@link Order#approve()} and {@link Order#initCancel(List)}: only PAID orders
+     * change. Orders that did not match are reported the way the domain would reject them. When one batch approves
+     * and rejects the same order, the approval is applied first.
+     */
+    private void updateOrderStatuses(List<RestaurantApprovalResponse> approvalResponses) {
+        Set<UUID> approvedOrderIds = new LinkedHashSet<>();
+        Map<UUID, List<String>> rejectedOrders = new LinkedHashMap<>();
+        for (RestaurantApprovalResponse approvalResponse : approvalResponses) {
+            UUID orderId = approvalResponse.getOrderId();
+            if (approvalResponse.getOrderApprovalStatus() == OrderApprovalStatus.APPROVED) {
+                approvedOrderIds.add(orderId);
+            } else {
+                rejectedOrders.merge(orderId, failureMessages(approvalResponse), (current, added) -> {
+                    List<String> merged = new ArrayList<>(current);
+                    merged.addAll(added);
+                    return merged;
+                });
+            }
+        }
+
+        List<TrackingId> changedTrackingIds = new ArrayList<>();
+        if (!approvedOrderIds.isEmpty()) {
+            List<OrderStatusTransition> approvedOrders = orderRepository.approveOrders(approvedOrderIds);
+            logUnmatchedOrders(approvedOrderIds, approvedOrders, "approve");
+            addTrackingIds(changedTrackingIds, approvedOrders);
+        }
+        if (!rejectedOrders.isEmpty()) {
+            List<OrderStatusTransition> cancellingOrders = orderRepository.initCancelOrders(rejectedOrders);
+            logUnmatchedOrders(rejectedOrders.keySet(), cancellingOrders, "cancel");
+            addTrackingIds(changedTrackingIds, cancellingOrders);
+            if (!cancellingOrders.isEmpty()) {
+                orderOutboxHelper.saveCancelPaymentOutboxMessages(cancellingOrders, clock.instant());
+            }
+        }
+        orderTrackingRefresher.evictAfterCommit(changedTrackingIds);
+        log.info("Approval response batch applied with bulk updates, orders changed: {}, responses: {}",
+                changedTrackingIds.size(), approvalResponses.size());
+    }
+
+    private List<OrderCancelledEvent> loadAndUpdateOrders(List<RestaurantApprovalResponse> approvalResponses) {
+        Map<UUID, Order> orders = findOrders(approvalResponses);
+
+        Map<UUID, Order> changedOrders = new LinkedHashMap<>();
+        List<OrderCancelledEvent> orderCancelledEvents = new ArrayList<>();
+        for (RestaurantApprovalResponse approvalResponse : approvalResponses) {
+            Order order = orders.get(approvalResponse.getOrderId());
+            if (order == null) {
+                log.warn("Could not find order with id: {} for approval response: {}",
+                        approvalResponse.getOrderId(), approvalResponse.getId());
+                continue;
+            }
+            try {
+                if (approvalResponse.getOrderApprovalStatus() == OrderApprovalStatus.APPROVED) {
+                    orderDomainService.approveOrder(order);
+                } else {
+                    orderCancelledEvents.add(
+                            orderDomainService.cancelOrderPayment(order, failureMessages(approvalResponse)));
+                }
+                changedOrders.put(order.getId().getValue(), order);
+            } catch (OrderDomainException e) {
+                log.warn("Approval response: {} is skipped for order id: {}, {}",
+                        approvalResponse.getId(), approvalResponse.getOrderId(), e.getMessage());
+            }
+        }
+
+        if (!changedOrders.isEmpty()) {
+            orderRepository.updateAll(new ArrayList<>(changedOrders.values()));
+        }
+        if (!orderCancelledEvents.isEmpty() && orderServiceConfigData.getOutboxEnabled()) {
+            orderOutboxHelper.saveCancelPaymentOutboxMessages(orderCancelledEvents);
+            orderCancelledEvents = List.of();
+        }
+        log.info("Approval response batch processed, orders changed: {}, responses: {}",
+                changedOrders.size(), approvalResponses.size());
+        return orderCancelledEvents;
+    }
+
+    private Map<UUID, Order> findOrders(List<RestaurantApprovalResponse> approvalResponses) {
+        Set<UUID> orderIds = new HashSet<>();
+        for (RestaurantApprovalResponse approvalResponse : approvalResponses) {
+            orderIds.add(approvalResponse.getOrderId());
+        }
+        List<Order> orders = orderRepository.findOrders(orderIds);
+
+        Map<UUID, Order> ordersById = new HashMap<>(orders.size() * 2);
+        for (Order order : orders) {
+            ordersById.put(order.getId().getValue(), order);
+        }
+        return ordersById;
+    }
+
+    private List<String> failureMessages(RestaurantApprovalResponse approvalResponse) {
+        return approvalResponse.getFailureMessages() != null ? approvalResponse.getFailureMessages() : List.of();
+    }
+
+    private void logUnmatchedOrders(Collection<UUID> requestedOrderIds,
+                                    List<OrderStatusTransition> matchedOrders,
+                                    String operation) {
+        if (matchedOrders.size() == requestedOrderIds.size()) {
+            return;
+        }
+        Set<UUID> unmatchedOrderIds = new LinkedHashSet<>(requestedOrderIds);
+        for (OrderStatusTransition matchedOrder : matchedOrders) {
+            unmatchedOrderIds.remove(matchedOrder.getOrderId());
+        }
+        log.warn("Orders are missing or not in correct state for {} operation, order ids: {}",
+                operation, unmatchedOrderIds);
+    }
+
+    private void addTrackingIds(List<TrackingId> trackingIds, List<OrderStatusTransition> orderStatusTransitions) {
+        for (OrderStatusTransition orderStatusTransition : orderStatusTransitions) {
+            trackingIds.add(new TrackingId(orderStatusTransition.getTrackingId()));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderCreateBatch {
+    private final List<OrderCreateEvent> orderCreateEvents;
+    private final List<CreateOrderResult> results;
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCreateBatchCommandHandler {
+    private final OrderCreateBatchHelper orderCreateBatchHelper;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public CreateOrdersResponse createOrders(CreateOrdersCommand createOrdersCommand) {
+        int batchSize = createOrdersCommand.getOrders().size();
+        if (batchSize > orderServiceConfigData.getMaxBatchOrders()) {
+            throw new OrderDomainException("Order batch of size " + batchSize + " exceeds the limit of "
+                    + orderServiceConfigData.getMaxBatchOrders());
+        }
+
+        OrderCreateBatch orderCreateBatch = orderCreateBatchHelper.persistOrders(createOrdersCommand.getOrders());
+        if (!orderServiceConfigData.getOutboxEnabled() && !orderCreateBatch.getOrderCreateEvents().isEmpty()) {
+            orderCreatedPaymentRequestMessagePublisher.publishAll(orderCreateBatch.getOrderCreateEvents());
+        }
+        return orderDataMapper.toCreateOrdersResponse(orderCreateBatch.getResults());
+    }
+}
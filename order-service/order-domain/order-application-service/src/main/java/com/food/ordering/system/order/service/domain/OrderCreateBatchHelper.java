@@ -0,0 +1,127 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.exception.DomainException;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCreateBatchHelper {
+    private final OrderDomainService orderDomainService;
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    /**
+     * Validates every command against one customer query and one restaurant query, then inserts the accepted orders
+     * together. A rejected order only fails its own result; a failing insert rolls back the whole batch.
+     */
+    @Transactional
+    public OrderCreateBatch persistOrders(List<CreateOrderCommand> createOrderCommands) {
+        Set<UUID> customerIds = findCustomerIds(createOrderCommands);
+        Map<UUID, Restaurant> restaurants = findRestaurants(createOrderCommands);
+
+        List<OrderCreateEvent> orderCreateEvents = new ArrayList<>(createOrderCommands.size());
+        List<CreateOrderResult> results = new ArrayList<>(createOrderCommands.size());
+        for (int index = 0; index < createOrderCommands.size(); index++) {
+            try {
+                OrderCreateEvent orderCreateEvent =
+                        initiateOrder(createOrderCommands.get(index), customerIds, restaurants);
+                orderCreateEvents.add(orderCreateEvent);
+                results.add(orderDataMapper.toCreateOrderResult(index, orderCreateEvent.getOrder()));
+            } catch (DomainException e) {
+                log.warn("Order at index {} of the batch is rejected: {}", index, e.getMessage());
+                results.add(orderDataMapper.toFailedCreateOrderResult(index, e.getMessage()));
+            }
+        }
+
+        if (!orderCreateEvents.isEmpty()) {
+            saveOrders(orderCreateEvents);
+            if (orderServiceConfigData.getOutboxEnabled()) {
+                orderOutboxHelper.savePaymentOutboxMessages(orderCreateEvents);
+            }
+        }
+        log.info("Order batch persisted, created: {}, rejected: {}", orderCreateEvents.size(),
+                createOrderCommands.size() - orderCreateEvents.size());
+        return new OrderCreateBatch(orderCreateEvents, results);
+    }
+
+    private OrderCreateEvent initiateOrder(CreateOrderCommand createOrderCommand,
+                                           Set<UUID> customerIds,
+                                           Map<UUID, Restaurant> restaurants) {
+        if (!customerIds.contains(createOrderCommand.getCustomerId())) {
+            throw new OrderDomainException(
+                    "Could not find customer with customer id : " + createOrderCommand.getCustomerId());
+        }
+        Restaurant restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+        if (restaurant == null) {
+            throw new OrderDomainException(
+                    "Could not find restaurant with restaurant id " + createOrderCommand.getRestaurantId());
+        }
+        Order order = orderDataMapper.toOrder(createOrderCommand);
+        return orderDomainService.validateAndInitiateOrder(order, restaurant);
+    }
+
+    private Set<UUID> findCustomerIds(List<CreateOrderCommand> createOrderCommands) {
+        Set<UUID> requestedCustomerIds = new HashSet<>();
+        for (CreateOrderCommand createOrderCommand : createOrderCommands) {
+            requestedCustomerIds.add(createOrderCommand.getCustomerId());
+        }
+        List<Customer> customers = customerRepository.findCustomers(requestedCustomerIds);
+
+        Set<UUID> customerIds = new HashSet<>(customers.size() * 2);
+        for (Customer customer : customers) {
+            customerIds.add(customer.getId().getValue());
+        }
+        return customerIds;
+    }
+
+    private Map<UUID, Restaurant> findRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        List<Restaurant> restaurants =
+                restaurantRepository.findRestaurantsInformation(orderDataMapper.toRestaurants(createOrderCommands));
+
+        Map<UUID, Restaurant> restaurantsById = new HashMap<>(restaurants.size() * 2);
+        for (Restaurant restaurant : restaurants) {
+            restaurantsById.put(restaurant.getId().getValue(), restaurant);
+        }
+        return restaurantsById;
+    }
+
+    private void saveOrders(List<OrderCreateEvent> orderCreateEvents) {
+        List<Order> orders = new ArrayList<>(orderCreateEvents.size());
+        for (OrderCreateEvent orderCreateEvent : orderCreateEvents) {
+            orders.add(orderCreateEvent.getOrder());
+        }
+        List<Order> savedOrders = orderRepository.insertAll(orders);
+        if (savedOrders == null || savedOrders.size() != orders.size()) {
+            log.error("Could not save order batch of size {}", orders.size());
+            throw new OrderDomainException("Could not save order batch of size " + orders.size());
+        }
+    }
+}
@@ -1,27 +1,49 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OrderCreateCommandHandler {
     private final OrderCreateHelper orderCreateHelper;
     private final OrderDataMapper orderDataMapper;
     private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderGroupCommitWriter orderGroupCommitWriter;
+
+    public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper,
+                                     OrderDataMapper orderDataMapper,
+                                     OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher,
+                                     OrderServiceConfigData orderServiceConfigData,
+                                     ObjectProvider<OrderGroupCommitWriter> orderGroupCommitWriter) {
+        this.orderCreateHelper = orderCreateHelper;
+        this.orderDataMapper = orderDataMapper;
+        this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderGroupCommitWriter = orderGroupCommitWriter.getIfAvailable();
+    }
 
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-        OrderCreateEvent orderCreateEvent = orderCreateHelper.persistOrder(createOrderCommand);
+        OrderCreateEvent orderCreateEvent;
+        if (orderGroupCommitWriter != null) {
+            orderCreateEvent = orderCreateHelper.initiateOrder(createOrderCommand);
+            orderGroupCommitWriter.write(orderCreateEvent);
+        } else {
+            orderCreateEvent = orderCreateHelper.persistOrder(createOrderCommand);
+        }
         log.info("Order Created Successfully id: {}", orderCreateEvent.getOrder().getId().getValue());
-        orderCreatedPaymentRequestMessagePublisher.publish(orderCreateEvent);
+        if (!orderServiceConfigData.getOutboxEnabled()) {
+            orderCreatedPaymentRequestMessagePublisher.publish(orderCreateEvent);
+        }
         return orderDataMapper.toCreateOrderResponse(orderCreateEvent.getOrder());
     }
 }
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
@@ -7,11 +8,14 @@ import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import javax.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,18 +31,38 @@ public class OrderCreateHelper {
     private final CustomerRepository customerRepository;
     private final RestaurantRepository restaurantRepository;
     private final OrderDataMapper orderDataMapper;
+    private final OrderLookupExecutor orderLookupExecutor;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
 
     @Transactional
     public OrderCreateEvent persistOrder(CreateOrderCommand createOrderCommand) {
-        checkCustomer(createOrderCommand.getCustomerId());
-        Restaurant restaurant = checkRestaurant(createOrderCommand);
-        Order order = orderDataMapper.toOrder(createOrderCommand);
-        OrderCreateEvent orderCreateEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
-        Order orderResult = saveOrder(order);
+        OrderCreateEvent orderCreateEvent = initiateOrder(createOrderCommand);
+        Order orderResult = saveOrder(orderCreateEvent.getOrder());
+        if (orderServiceConfigData.getOutboxEnabled()) {
+            orderOutboxHelper.savePaymentOutboxMessage(orderCreateEvent);
+        }
         log.info("Order Created Successfully id: {}", orderCreateEvent.getOrder().getId().getValue());
         return orderCreateEvent;
     }
 
+    /**
+     * Validates the command and initiates the order without saving it.
+     */
+    public OrderCreateEvent initiateOrder(CreateOrderCommand createOrderCommand) {
+        // the customer check runs on the lookup pool, outside any transaction, while the restaurant is read here
+        CompletableFuture<Void> customerCheck = CompletableFuture.runAsync(
+                () -> checkCustomer(createOrderCommand.getCustomerId()), orderLookupExecutor);
+        Restaurant restaurant;
+        try {
+            restaurant = checkRestaurant(createOrderCommand);
+        } finally {
+            awaitCustomerCheck(customerCheck);
+        }
+        Order order = orderDataMapper.toOrder(createOrderCommand);
+        return orderDomainService.validateAndInitiateOrder(order, restaurant);
+    }
+
     private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
         Restaurant restaurant = orderDataMapper.toRestaurant(createOrderCommand);
         Optional<Restaurant> optionalRestaurant = restaurantRepository.findRestaurantInformation(restaurant);
@@ -52,6 +76,17 @@ public class OrderCreateHelper {
         return optionalRestaurant.get();
     }
 
+    private void awaitCustomerCheck(CompletableFuture<Void> customerCheck) {
+        try {
+            customerCheck.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     private void checkCustomer(@NotNull UUID customerId) {
         Optional<Customer> customer = customerRepository.findCustomer(customerId);
         if (customer.isEmpty()) {
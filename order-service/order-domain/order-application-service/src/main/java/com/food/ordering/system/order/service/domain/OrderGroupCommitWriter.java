@@ -0,0 +1,225 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Opt-in group commit for new orders. Callers hand over an initiated order and block; a single writer thread collects
+ * whatever arrives within group-commit-max-wait-ms (up to group-commit-max-batch-size orders) and inserts the orders
+ * and their outbox rows in one transaction, so concurrent requests share one commit. If that transaction fails every
+ * order of the group is retried in its own transaction, so only the offending order fails.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order-service", name = "group-commit-enabled", havingValue = "true")
+public class OrderGroupCommitWriter {
+
+    private static final long POLL_TIMEOUT_MS = 100L;
+
+    private final OrderRepository orderRepository;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingOrder> pendingOrders;
+    private final Thread writerThread;
+    private final DistributionSummary groupSizeSummary;
+    private final Timer commitTimer;
+    private final Counter fallbackCounter;
+
+    private volatile boolean running = true;
+
+    public OrderGroupCommitWriter(OrderRepository orderRepository,
+                                  OrderOutboxHelper orderOutboxHelper,
+                                  OrderServiceConfigData orderServiceConfigData,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pendingOrders = new ArrayBlockingQueue<>(orderServiceConfigData.getGroupCommitQueueCapacity());
+        this.writerThread = new Thread(this::writeLoop, "order-group-commit");
+        this.writerThread.setDaemon(true);
+        this.groupSizeSummary = DistributionSummary.builder("order.group-commit.size").register(meterRegistry);
+        this.commitTimer = Timer.builder("order.group-commit.commit").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("order.group-commit.fallback").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * Saves the order of the event and its outbox row, returning once they are committed. The wait for a queue slot
+     * and the wait for the commit share one group-commit-timeout-ms deadline.
+     */
+    public void write(OrderCreateEvent orderCreateEvent) {
+        PendingOrder pendingOrder = new PendingOrder(orderCreateEvent, new CompletableFuture<>());
+        long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getGroupCommitTimeoutMs());
+        try {
+            if (!running || !pendingOrders.offer(pendingOrder, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new OrderDomainException("Could not queue order with orderId " + orderId(pendingOrder)
+                        + " for saving");
+            }
+            if (!running && pendingOrders.remove(pendingOrder)) {
+                throw new OrderDomainException("Order group commit writer is shut down, could not save order with "
+                        + "orderId " + orderId(pendingOrder));
+            }
+            pendingOrder.committed().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(pendingOrder, "Interrupted while saving order with orderId ", e);
+        } catch (ExecutionException e) {
+            throw saveFailure(pendingOrder, e.getCause());
+        } catch (TimeoutException e) {
+            abandon(pendingOrder, "Timed out while saving order with orderId ", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        log.info("Shutting down order group commit writer!");
+        running = false;
+        writerThread.join(orderServiceConfigData.getGroupCommitTimeoutMs());
+        List<PendingOrder> leftovers = new ArrayList<>();
+        pendingOrders.drainTo(leftovers);
+        if (!leftovers.isEmpty()) {
+            log.warn("Failing {} orders left unsaved by the order group commit writer", leftovers.size());
+        }
+        leftovers.forEach(pendingOrder -> pendingOrder.committed().completeExceptionally(new OrderDomainException(
+                "Order group commit writer shut down before saving order with orderId " + orderId(pendingOrder))));
+    }
+
+    /**
+     * Gives up on an order that is still queued. Once the writer thread has taken the order it may already be
+     * committed, so the caller waits for the real outcome instead of reporting a failure.
+     */
+    private void abandon(PendingOrder pendingOrder, String message, Exception cause) {
+        if (pendingOrders.remove(pendingOrder)) {
+            throw new OrderDomainException(message + orderId(pendingOrder), cause);
+        }
+        try {
+            pendingOrder.committed().join();
+        } catch (CompletionException e) {
+            throw saveFailure(pendingOrder, e.getCause());
+        }
+    }
+
+    private RuntimeException saveFailure(PendingOrder pendingOrder, Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new OrderDomainException("Could not save order with orderId " + orderId(pendingOrder), cause);
+    }
+
+    private static UUID orderId(PendingOrder pendingOrder) {
+        return pendingOrder.orderCreateEvent().getOrder().getId().getValue();
+    }
+
+    private void writeLoop() {
+        int maxGroupSize = orderServiceConfigData.getGroupCommitMaxBatchSize();
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getGroupCommitMaxWaitMs());
+        List<PendingOrder> group = new ArrayList<>(maxGroupSize);
+        while (running || !pendingOrders.isEmpty()) {
+            try {
+                PendingOrder first = pendingOrders.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                pendingOrders.drainTo(group, maxGroupSize - group.size());
+                while (group.size() < maxGroupSize) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    PendingOrder next = remainingNanos > 0
+                            ? pendingOrders.poll(remainingNanos, TimeUnit.NANOSECONDS)
+                            : null;
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                    pendingOrders.drainTo(group, maxGroupSize - group.size());
+                }
+            } catch (InterruptedException e) {
+                log.warn("Order group commit writer interrupted");
+                running = false;
+            }
+            if (!group.isEmpty()) {
+                commit(group);
+                group.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingOrder> group) {
+        groupSizeSummary.record(group.size());
+        try {
+            commitTimer.record(() -> transactionTemplate.executeWithoutResult(status -> save(group)));
+            group.forEach(pendingOrder -> pendingOrder.committed().complete(null));
+        } catch (RuntimeException e) {
+            if (group.size() == 1) {
+                group.get(0).committed().completeExceptionally(e);
+                return;
+            }
+            log.warn("Group commit of {} orders failed, saving them one by one: {}", group.size(), e.getMessage());
+            fallbackCounter.increment();
+            group.forEach(this::commitSingle);
+        }
+    }
+
+    private void commitSingle(PendingOrder pendingOrder) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(List.of(pendingOrder)));
+            pendingOrder.committed().complete(null);
+        } catch (RuntimeException e) {
+            log.error("Could not save order with orderId {}", orderId(pendingOrder), e);
+            pendingOrder.committed().completeExceptionally(e);
+        }
+    }
+
+    private void save(List<PendingOrder> group) {
+        List<Order> orders = new ArrayList<>(group.size());
+        List<OrderCreateEvent> orderCreateEvents = new ArrayList<>(group.size());
+        for (PendingOrder pendingOrder : group) {
+            orders.add(pendingOrder.orderCreateEvent().getOrder());
+            orderCreateEvents.add(pendingOrder.orderCreateEvent());
+        }
+        List<Order> savedOrders = orderRepository.insertAll(orders);
+        if (savedOrders == null || savedOrders.size() != orders.size()) {
+            throw new OrderDomainException("Could not save order group of size " + orders.size());
+        }
+        if (orderServiceConfigData.getOutboxEnabled()) {
+            orderOutboxHelper.savePaymentOutboxMessages(orderCreateEvents);
+        }
+    }
+
+    private record PendingOrder(OrderCreateEvent orderCreateEvent, CompletableFuture<Void> committed) {
+    }
+}
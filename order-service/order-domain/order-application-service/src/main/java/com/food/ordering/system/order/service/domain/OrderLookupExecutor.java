@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded pool for the read-only lookups done while creating an order. When the pool and its queue are full the
+ * caller runs the lookup itself, which degrades to the old sequential behaviour instead of rejecting the order.
+ */
+@Slf4j
+@Component
+public class OrderLookupExecutor implements Executor {
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+
+    public OrderLookupExecutor(OrderServiceConfigData orderServiceConfigData) {
+        int poolSize = orderServiceConfigData.getLookupPoolSize();
+        threadPoolExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(orderServiceConfigData.getLookupQueueCapacity()),
+                new LookupThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        threadPoolExecutor.execute(command);
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("Shutting down order lookup executor!");
+        threadPoolExecutor.shutdown();
+    }
+
+    private static final class LookupThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "order-lookup-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.vo.PaymentStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.inbox.OrderInboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPaymentResponseHelper {
+    private final OrderDomainService orderDomainService;
+    private final OrderRepository orderRepository;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderInboxHelper orderInboxHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    /**
+     * Loads every order of the batch with one query, applies the responses in arrival order and writes the changed
+     * orders together. Responses already recorded in the inbox are dropped first. A response for an unknown order or
+     * one that does not fit the order state is skipped; a failing write rolls back the whole batch.
+     */
+    @Transactional
+    public List<OrderPaidEvent> processPaymentResponses(List<PaymentResponse> receivedPaymentResponses) {
+        List<PaymentResponse> paymentResponses =
+                orderInboxHelper.saveNew(receivedPaymentResponses, PaymentResponse::getId);
+        if (paymentResponses.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Order> orders = findOrders(paymentResponses);
+
+        Map<UUID, Order> changedOrders = new LinkedHashMap<>();
+        List<OrderPaidEvent> orderPaidEvents = new ArrayList<>();
+        for (PaymentResponse paymentResponse : paymentResponses) {
+            Order order = orders.get(paymentResponse.getOrderId());
+            if (order == null) {
+                log.warn("Could not find order with id: {} for payment response: {}",
+                        paymentResponse.getOrderId(), paymentResponse.getId());
+                continue;
+            }
+            try {
+                if (paymentResponse.getPaymentStatus() == PaymentStatus.COMPLETED) {
+                    orderPaidEvents.add(orderDomainService.payOrder(order));
+                } else {
+                    orderDomainService.cancelOrder(order);
+                }
+                changedOrders.put(order.getId().getValue(), order);
+            } catch (OrderDomainException e) {
+                log.warn("Payment response: {} is skipped for order id: {}, {}",
+                        paymentResponse.getId(), paymentResponse.getOrderId(), e.getMessage());
+            }
+        }
+
+        if (!changedOrders.isEmpty()) {
+            orderRepository.updateAll(new ArrayList<>(changedOrders.values()));
+        }
+        if (!orderPaidEvents.isEmpty() && orderServiceConfigData.getOutboxEnabled()) {
+            orderOutboxHelper.saveApprovalOutboxMessages(orderPaidEvents);
+        }
+        log.info("Payment response batch processed, orders paid: {}, changed: {}, responses: {}",
+                orderPaidEvents.size(), changedOrders.size(), paymentResponses.size());
+        return orderPaidEvents;
+    }
+
+    private Map<UUID, Order> findOrders(List<PaymentResponse> paymentResponses) {
+        Set<UUID> orderIds = new HashSet<>();
+        for (PaymentResponse paymentResponse : paymentResponses) {
+            orderIds.add(paymentResponse.getOrderId());
+        }
+        List<Order> orders = orderRepository.findOrders(orderIds);
+
+        Map<UUID, Order> ordersById = new HashMap<>(orders.size() * 2);
+        for (Order order : orders) {
+            ordersById.put(order.getId().getValue(), order);
+        }
+        return ordersById;
+    }
+}
@@ -2,37 +2,57 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
-import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusIndex;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingCache;
 import com.food.ordering.system.order.service.domain.vo.TrackingId;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OrderTrackCommandHandler {
 
-    private final OrderDataMapper orderDataMapper;
     private final OrderRepository orderRepository;
+    private final OrderTrackingCache orderTrackingCache;
+    private final OrderStatusIndex orderStatusIndex;
 
-    @Transactional(readOnly = true)
+    public OrderTrackCommandHandler(OrderRepository orderRepository,
+                                    OrderTrackingCache orderTrackingCache,
+                                    ObjectProvider<OrderStatusIndex> orderStatusIndex) {
+        this.orderRepository = orderRepository;
+        this.orderTrackingCache = orderTrackingCache;
+        this.orderStatusIndex = orderStatusIndex.getIfAvailable();
+    }
+
+    /**
+     * Not transactional: index and cache hits never touch the database and the projection query runs in the read-only
+     * transaction of the Spring Data repository.
+     */
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-        Optional<Order> orderResult = orderRepository.findByTrackingId(
-                new TrackingId(trackOrderQuery.getOrderTrackingId())
-        );
+        TrackingId trackingId = new TrackingId(trackOrderQuery.getOrderTrackingId());
+        if (orderStatusIndex != null) {
+            Optional<TrackOrderResponse> indexedTrackOrderResponse = orderStatusIndex.findOrderTracking(trackingId);
+            if (indexedTrackOrderResponse.isPresent()) {
+                return indexedTrackOrderResponse.get();
+            }
+        }
+        Optional<TrackOrderResponse> cachedTrackOrderResponse = orderTrackingCache.find(trackingId);
+        if (cachedTrackOrderResponse.isPresent()) {
+            return cachedTrackOrderResponse.get();
+        }
+
+        Optional<TrackOrderResponse> trackOrderResponse = orderRepository.findOrderTracking(trackingId);
 
-        if (orderResult.isEmpty()) {
+        if (trackOrderResponse.isEmpty()) {
             log.warn("Order Not Found By TrackingId: {}", trackOrderQuery.getOrderTrackingId());
             throw new OrderNotFoundException(
                     "Could not find order with trackingId: " + trackOrderQuery.getOrderTrackingId());
         }
 
-        return orderDataMapper.toTrackOrderResponse(orderResult.get());
+        return orderTrackingCache.putIfAbsent(trackOrderResponse.get());
     }
 }
@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reruns a whole transaction when it lost an optimistic locking race, at most
+ * order-service.order-update-max-attempts times with a jittered, growing pause in between. The action must start its
+ * own transaction so every attempt reads the orders again.
+ */
+@Slf4j
+@Component
+public class OrderUpdateRetryExecutor {
+
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public OrderUpdateRetryExecutor(OrderServiceConfigData orderServiceConfigData, MeterRegistry meterRegistry) {
+        this.maxAttempts = Math.max(1, orderServiceConfigData.getOrderUpdateMaxAttempts());
+        this.backoffMs = orderServiceConfigData.getOrderUpdateRetryBackoffMs();
+        this.retryCounter = Counter.builder("order.update.retries").register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("order.update.retries.exhausted").register(meterRegistry);
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    log.error("{} lost an optimistic locking race {} times, giving up", operation, attempt);
+                    throw e;
+                }
+                retryCounter.increment();
+                log.warn("{} lost an optimistic locking race, attempt {} of {}: {}",
+                        operation, attempt, maxAttempts, e.getMessage());
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        long pauseMs = backoffMs * attempt;
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(pauseMs / 2 + ThreadLocalRandom.current().nextLong(pauseMs / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry " + attempt, e);
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.inbox.OrderInboxHelper;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -9,15 +15,36 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
 
+    private final OrderPaymentResponseHelper orderPaymentResponseHelper;
+    private final OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderUpdateRetryExecutor orderUpdateRetryExecutor;
+    private final OrderInboxHelper orderInboxHelper;
+
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-
+        paymentResponsesReceived(List.of(paymentResponse));
     }
 
     @Override
     public void paymentCancelled(PaymentResponse paymentResponse) {
+        paymentResponsesReceived(List.of(paymentResponse));
+    }
 
+    @Override
+    public void paymentResponsesReceived(List<PaymentResponse> receivedPaymentResponses) {
+        List<PaymentResponse> paymentResponses =
+                orderInboxHelper.removeSeen(receivedPaymentResponses, PaymentResponse::getId);
+        if (paymentResponses.isEmpty()) {
+            return;
+        }
+        List<OrderPaidEvent> orderPaidEvents = orderUpdateRetryExecutor.execute("Payment response batch",
+                () -> orderPaymentResponseHelper.processPaymentResponses(paymentResponses));
+        if (!orderServiceConfigData.getOutboxEnabled() && !orderPaidEvents.isEmpty()) {
+            orderPaidRestaurantRequestMessagePublisher.publishAll(orderPaidEvents);
+        }
     }
 }
@@ -1,7 +1,12 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.inbox.OrderInboxHelper;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -10,14 +15,33 @@ import org.springframework.validation.annotation.Validated;
 @Slf4j
 @Validated
 @Service
+@RequiredArgsConstructor
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+
+    private final OrderApprovalResponseHelper orderApprovalResponseHelper;
+    private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher;
+    private final OrderUpdateRetryExecutor orderUpdateRetryExecutor;
+    private final OrderInboxHelper orderInboxHelper;
+
     @Override
     public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+        approvalResponsesReceived(List.of(restaurantApprovalResponse));
     }
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+        approvalResponsesReceived(List.of(restaurantApprovalResponse));
+    }
 
+    @Override
+    public void approvalResponsesReceived(List<RestaurantApprovalResponse> receivedApprovalResponses) {
+        List<RestaurantApprovalResponse> restaurantApprovalResponses =
+                orderInboxHelper.removeSeen(receivedApprovalResponses, RestaurantApprovalResponse::getId);
+        if (restaurantApprovalResponses.isEmpty()) {
+            return;
+        }
+        List<OrderCancelledEvent> orderCancelledEvents = orderUpdateRetryExecutor.execute("Approval response batch",
+                () -> orderApprovalResponseHelper.processApprovalResponses(restaurantApprovalResponses));
+        orderCancelledEvents.forEach(orderCancelledPaymentRequestMessagePublisher::publish);
     }
 }
@@ -12,4 +12,27 @@ public class OrderServiceConfigData {
     private String paymentResponseTopicName;
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private Integer lookupPoolSize = 16;
+    private Integer lookupQueueCapacity = 256;
+    private Integer maxBatchOrders = 500;
+    private Boolean outboxEnabled = true;
+    private Integer outboxBatchSize = 500;
+    private Long outboxPollIntervalMs = 100L;
+    private Long outboxPublishTimeoutMs = 10_000L;
+    private Boolean groupCommitEnabled = false;
+    private Integer groupCommitMaxBatchSize = 64;
+    private Long groupCommitMaxWaitMs = 5L;
+    private Integer groupCommitQueueCapacity = 4096;
+    private Long groupCommitTimeoutMs = 5_000L;
+    private Boolean trackingCacheEnabled = true;
+    private Long trackingCacheMaximumSize = 200_000L;
+    private Long trackingCacheExpireAfterWriteSeconds = 60L;
+    private Boolean approvalBulkUpdateEnabled = true;
+    private Integer orderUpdateMaxAttempts = 3;
+    private Long orderUpdateRetryBackoffMs = 20L;
+    private Boolean inboxEnabled = true;
+    private Long inboxFilterMaximumSize = 1_000_000L;
+    private Long inboxRetentionHours = 72L;
+    private Long inboxCleanupIntervalMs = 3_600_000L;
+    private Integer avroSchemaVersion = 1;
 }
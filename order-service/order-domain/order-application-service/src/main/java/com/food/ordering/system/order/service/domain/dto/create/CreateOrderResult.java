@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import java.util.UUID;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class CreateOrderResult {
+    @NotNull
+    private final Integer index;
+    @NotNull
+    private final Boolean created;
+    private final UUID orderTrackingId;
+    private final OrderStatus orderStatus;
+    @NotNull
+    private final String message;
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class CreateOrdersCommand {
+    @NotNull
+    @NotEmpty
+    @Valid
+    private final List<CreateOrderCommand> orders;
+}
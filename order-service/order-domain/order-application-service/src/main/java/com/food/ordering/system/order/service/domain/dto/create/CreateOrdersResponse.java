@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class CreateOrdersResponse {
+    @NotNull
+    private final Integer createdCount;
+    @NotNull
+    private final Integer failedCount;
+    @NotNull
+    private final List<CreateOrderResult> results;
+}
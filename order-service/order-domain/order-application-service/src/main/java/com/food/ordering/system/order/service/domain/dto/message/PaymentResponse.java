@@ -4,6 +4,7 @@ import com.food.ordering.system.domain.vo.PaymentStatus;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,9 +13,9 @@ import lombok.Getter;
 @Builder
 @AllArgsConstructor
 public class PaymentResponse {
-    private String id;
+    private UUID id;
     private String sagaId;
-    private String orderId;
+    private UUID orderId;
     private String paymentId;
     private String customerId;
     private BigDecimal price;
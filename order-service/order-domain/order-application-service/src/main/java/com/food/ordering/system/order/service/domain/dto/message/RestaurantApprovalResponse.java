@@ -4,6 +4,7 @@ package com.food.ordering.system.order.service.domain.dto.message;
 import com.food.ordering.system.domain.vo.OrderApprovalStatus;
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,9 +13,9 @@ import lombok.Getter;
 @Builder
 @AllArgsConstructor
 public class RestaurantApprovalResponse {
-    private String id;
+    private UUID id;
     private String sagaId;
-    private String orderId;
+    private UUID orderId;
     private String restaurantId;
     private Instant createdAt;
     private OrderApprovalStatus orderApprovalStatus;
@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.dto.transition;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * An order row as it was left by a set-based status update.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderStatusTransition {
+    private final UUID orderId;
+    private final UUID trackingId;
+    private final UUID customerId;
+    private final BigDecimal price;
+    private final OrderStatus orderStatus;
+    private final List<String> failureMessages;
+}
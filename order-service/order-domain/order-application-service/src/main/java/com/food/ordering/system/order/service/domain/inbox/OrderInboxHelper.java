@@ -0,0 +1,138 @@
+package com.food.ordering.system.order.service.domain.inbox;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderInboxRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Drops redelivered response messages by their message id. {@link #removeSeen} checks a bounded in-memory set of
+ * recently committed ids without touching the database; {@link #saveNew} records the remaining ids in the order_inbox
+ * table inside the transaction that applies them, so a message is either applied and recorded or neither. Ids enter
+ * the in-memory set only after that transaction commits. Messages without an id are always passed on.
+ */
+@Slf4j
+@Component
+public class OrderInboxHelper {
+
+    private static final String FILTER_NAME = "order.inbox.filter";
+
+    private final OrderInboxRepository orderInboxRepository;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Cache<UUID, Boolean> processedMessageIds;
+    private final Counter filteredCounter;
+    private final Counter inboxRejectedCounter;
+
+    public OrderInboxHelper(OrderInboxRepository orderInboxRepository,
+                            OrderServiceConfigData orderServiceConfigData,
+                            Clock clock,
+                            MeterRegistry meterRegistry) {
+        this.orderInboxRepository = orderInboxRepository;
+        this.clock = clock;
+        this.enabled = orderServiceConfigData.getInboxEnabled();
+        this.processedMessageIds = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getInboxFilterMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, processedMessageIds, FILTER_NAME);
+        this.filteredCounter = Counter.builder("order.inbox.duplicates")
+                .tag("stage", "filter")
+                .register(meterRegistry);
+        this.inboxRejectedCounter = Counter.builder("order.inbox.duplicates")
+                .tag("stage", "inbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Removes messages already processed by this instance and repeated ids within the batch, keeping the first.
+     */
+    public <T> List<T> removeSeen(List<T> messages, Function<T, UUID> messageIdFunction) {
+        if (!enabled) {
+            return messages;
+        }
+        Set<UUID> batchMessageIds = new HashSet<>();
+        List<T> unseenMessages = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            UUID messageId = messageIdFunction.apply(message);
+            if (messageId != null
+                    && (processedMessageIds.getIfPresent(messageId) != null || !batchMessageIds.add(messageId))) {
+                continue;
+            }
+            unseenMessages.add(message);
+        }
+        int filtered = messages.size() - unseenMessages.size();
+        if (filtered > 0) {
+            filteredCounter.increment(filtered);
+            log.info("{} duplicate messages were dropped before processing", filtered);
+        }
+        return unseenMessages;
+    }
+
+    /**
+     * Records the message ids in the surrounding transaction and returns the messages that were not recorded before.
+     */
+    public <T> List<T> saveNew(List<T> messages, Function<T, UUID> messageIdFunction) {
+        if (!enabled || messages.isEmpty()) {
+            return messages;
+        }
+        Set<UUID> messageIds = new LinkedHashSet<>();
+        for (T message : messages) {
+            UUID messageId = messageIdFunction.apply(message);
+            if (messageId != null) {
+                messageIds.add(messageId);
+            }
+        }
+        if (messageIds.isEmpty()) {
+            return messages;
+        }
+
+        Set<UUID> newMessageIds = orderInboxRepository.saveNew(messageIds, clock.instant());
+        rememberAfterCommit(messageIds);
+        if (newMessageIds.size() == messageIds.size()) {
+            return messages;
+        }
+
+        Set<UUID> unclaimedMessageIds = new HashSet<>(newMessageIds);
+        List<T> newMessages = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            UUID messageId = messageIdFunction.apply(message);
+            if (messageId == null || unclaimedMessageIds.remove(messageId)) {
+                newMessages.add(message);
+            }
+        }
+        inboxRejectedCounter.increment(messages.size() - newMessages.size());
+        log.info("{} messages were already recorded in the inbox and are skipped",
+                messages.size() - newMessages.size());
+        return newMessages;
+    }
+
+    private void rememberAfterCommit(Set<UUID> messageIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (UUID messageId : messageIds) {
+                    processedMessageIds.put(messageId, Boolean.TRUE);
+                }
+            }
+        });
+    }
+}
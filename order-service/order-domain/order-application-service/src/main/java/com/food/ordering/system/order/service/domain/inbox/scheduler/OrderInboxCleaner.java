@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.domain.inbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderInboxRepository;
+import java.time.Clock;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes inbox rows older than order-service.inbox-retention-hours. The retention has to outlast the longest time a
+ * response can be redelivered, including consumer lag.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderInboxCleaner {
+
+    private final OrderInboxRepository orderInboxRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Clock clock;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${order-service.inbox-cleanup-interval-ms:3600000}")
+    public void deleteExpiredMessages() {
+        if (!orderServiceConfigData.getInboxEnabled()) {
+            return;
+        }
+        int deleted = orderInboxRepository.deleteReceivedBefore(
+                clock.instant().minus(Duration.ofHours(orderServiceConfigData.getInboxRetentionHours())));
+        if (deleted > 0) {
+            log.info("Deleted {} expired inbox messages", deleted);
+        }
+    }
+}
@@ -1,28 +1,49 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
 
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.vo.CustomerId;
 import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.OrderStatus;
 import com.food.ordering.system.domain.vo.ProductId;
 import com.food.ordering.system.domain.vo.RestaurantId;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.transition.OrderStatusTransition;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Order.OrderBuilder;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import com.food.ordering.system.order.service.domain.vo.StreetAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class OrderDataMapper {
 
+    private final IdGenerator idGenerator;
+
     public Restaurant toRestaurant(CreateOrderCommand createOrderCommand) {
         return Restaurant.Builder.builder()
                 .id(new RestaurantId(createOrderCommand.getRestaurantId()))
@@ -33,6 +54,25 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public List<Restaurant> toRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        Map<UUID, Set<UUID>> productIdsByRestaurant = new LinkedHashMap<>();
+        for (CreateOrderCommand createOrderCommand : createOrderCommands) {
+            Set<UUID> productIds = productIdsByRestaurant.computeIfAbsent(
+                    createOrderCommand.getRestaurantId(), restaurantId -> new LinkedHashSet<>());
+            createOrderCommand.getItems().forEach(orderItem -> productIds.add(orderItem.getProductId()));
+        }
+
+        List<Restaurant> restaurants = new ArrayList<>(productIdsByRestaurant.size());
+        productIdsByRestaurant.forEach((restaurantId, productIds) -> restaurants.add(Restaurant.Builder.builder()
+                .id(new RestaurantId(restaurantId))
+                .products(productIds.stream()
+                        .map(productId -> new Product(new ProductId(productId)))
+                        .collect(Collectors.toList())
+                )
+                .build()));
+        return restaurants;
+    }
+
     public Order toOrder(CreateOrderCommand createOrderCommand) {
         return OrderBuilder.builder()
                 .customerId(new CustomerId(createOrderCommand.getCustomerId()))
@@ -51,6 +91,38 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public CreateOrderResult toCreateOrderResult(int index, Order order) {
+        return CreateOrderResult.builder()
+                .index(index)
+                .created(true)
+                .orderTrackingId(order.getTrackingId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .message("")
+                .build();
+    }
+
+    public CreateOrderResult toFailedCreateOrderResult(int index, String message) {
+        return CreateOrderResult.builder()
+                .index(index)
+                .created(false)
+                .message(message)
+                .build();
+    }
+
+    public CreateOrdersResponse toCreateOrdersResponse(List<CreateOrderResult> results) {
+        int createdCount = 0;
+        for (CreateOrderResult result : results) {
+            if (result.getCreated()) {
+                createdCount++;
+            }
+        }
+        return CreateOrdersResponse.builder()
+                .createdCount(createdCount)
+                .failedCount(results.size() - createdCount)
+                .results(results)
+                .build();
+    }
+
     public TrackOrderResponse toTrackOrderResponse(Order order) {
         return TrackOrderResponse.builder()
                 .orderTrackingId(order.getTrackingId().getValue())
@@ -59,6 +131,56 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public OrderPaymentEventPayload orderCreateEventToOrderPaymentEventPayload(OrderCreateEvent orderCreateEvent) {
+        return toOrderPaymentEventPayload(orderCreateEvent.getOrder(), orderCreateEvent.getCreatedAt(),
+                OrderStatus.PENDING);
+    }
+
+    public OrderPaymentEventPayload orderCancelledEventToOrderPaymentEventPayload(
+            OrderCancelledEvent orderCancelledEvent) {
+        return toOrderPaymentEventPayload(orderCancelledEvent.getOrder(), orderCancelledEvent.getCreatedAt(),
+                OrderStatus.CANCELLED);
+    }
+
+    public OrderPaymentEventPayload orderStatusTransitionToOrderPaymentEventPayload(
+            OrderStatusTransition orderStatusTransition, Instant createdAt) {
+        return OrderPaymentEventPayload.builder()
+                .orderId(orderStatusTransition.getOrderId().toString())
+                .customerId(orderStatusTransition.getCustomerId().toString())
+                .price(orderStatusTransition.getPrice())
+                .createdAt(createdAt)
+                .paymentOrderStatus(OrderStatus.CANCELLED.name())
+                .build();
+    }
+
+    public OrderApprovalEventPayload orderPaidEventToOrderApprovalEventPayload(OrderPaidEvent orderPaidEvent) {
+        Order order = orderPaidEvent.getOrder();
+        return OrderApprovalEventPayload.builder()
+                .orderId(order.getId().getValue().toString())
+                .restaurantId(order.getRestaurantId().getValue().toString())
+                .price(order.getPrice().getAmount())
+                .products(order.getItems().stream()
+                        .map(orderItem -> OrderApprovalEventProduct.builder()
+                                .id(orderItem.getProduct().getId().getValue().toString())
+                                .quantity(orderItem.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .createdAt(orderPaidEvent.getCreatedAt())
+                .restaurantOrderStatus(OrderStatus.PAID.name())
+                .build();
+    }
+
+    private OrderPaymentEventPayload toOrderPaymentEventPayload(Order order, Instant createdAt,
+                                                                OrderStatus paymentOrderStatus) {
+        return OrderPaymentEventPayload.builder()
+                .orderId(order.getId().getValue().toString())
+                .customerId(order.getCustomerId().getValue().toString())
+                .price(order.getPrice().getAmount())
+                .createdAt(createdAt)
+                .paymentOrderStatus(paymentOrderStatus.name())
+                .build();
+    }
+
     private List<OrderItem> orderItemsToOrderItemsEntities(
             List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> items) {
 
@@ -73,6 +195,6 @@ public class OrderDataMapper {
     }
 
     private StreetAddress orderAddressToStreetAddress(OrderAddress address) {
-        return new StreetAddress(UUID.randomUUID(), address.getStreet(), address.getPostalCode(), address.getCity());
+        return new StreetAddress(idGenerator.generate(), address.getStreet(), address.getPostalCode(), address.getCity());
     }
 }
@@ -0,0 +1,122 @@
+package com.food.ordering.system.order.service.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.order.service.domain.dto.transition.OrderStatusTransition;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxMessageType;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes outbox rows for domain events. Callers run inside the transaction that saves the order, so the row and the
+ * order commit or roll back together; {@link com.food.ordering.system.order.service.domain.outbox.scheduler.OrderOutboxRelay}
+ * publishes them afterwards.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxHelper {
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+
+    public void savePaymentOutboxMessage(OrderCreateEvent orderCreateEvent) {
+        savePaymentOutboxMessages(List.of(orderCreateEvent));
+    }
+
+    public void savePaymentOutboxMessages(List<OrderCreateEvent> orderCreateEvents) {
+        List<OrderOutboxMessage> outboxMessages = new ArrayList<>(orderCreateEvents.size());
+        for (OrderCreateEvent orderCreateEvent : orderCreateEvents) {
+            outboxMessages.add(toOutboxMessage(
+                    orderCreateEvent.getOrder().getId().getValue(),
+                    OutboxMessageType.PAYMENT_REQUEST,
+                    orderDataMapper.orderCreateEventToOrderPaymentEventPayload(orderCreateEvent),
+                    orderCreateEvent.getCreatedAt()));
+        }
+        orderOutboxRepository.saveAll(outboxMessages);
+    }
+
+    public void saveCancelPaymentOutboxMessage(OrderCancelledEvent orderCancelledEvent) {
+        saveCancelPaymentOutboxMessages(List.of(orderCancelledEvent));
+    }
+
+    public void saveCancelPaymentOutboxMessages(List<OrderCancelledEvent> orderCancelledEvents) {
+        List<OrderOutboxMessage> outboxMessages = new ArrayList<>(orderCancelledEvents.size());
+        for (OrderCancelledEvent orderCancelledEvent : orderCancelledEvents) {
+            outboxMessages.add(toOutboxMessage(
+                    orderCancelledEvent.getOrder().getId().getValue(),
+                    OutboxMessageType.PAYMENT_REQUEST,
+                    orderDataMapper.orderCancelledEventToOrderPaymentEventPayload(orderCancelledEvent),
+                    orderCancelledEvent.getCreatedAt()));
+        }
+        orderOutboxRepository.saveAll(outboxMessages);
+    }
+
+    /**
+     * Cancel payment requests for orders moved to CANCELLING by a set-based update.
+     */
+    public void saveCancelPaymentOutboxMessages(List<OrderStatusTransition> orderStatusTransitions,
+                                                Instant createdAt) {
+        List<OrderOutboxMessage> outboxMessages = new ArrayList<>(orderStatusTransitions.size());
+        for (OrderStatusTransition orderStatusTransition : orderStatusTransitions) {
+            outboxMessages.add(toOutboxMessage(
+                    orderStatusTransition.getOrderId(),
+                    OutboxMessageType.PAYMENT_REQUEST,
+                    orderDataMapper.orderStatusTransitionToOrderPaymentEventPayload(orderStatusTransition, createdAt),
+                    createdAt));
+        }
+        orderOutboxRepository.saveAll(outboxMessages);
+    }
+
+    public void saveApprovalOutboxMessage(OrderPaidEvent orderPaidEvent) {
+        saveApprovalOutboxMessages(List.of(orderPaidEvent));
+    }
+
+    public void saveApprovalOutboxMessages(List<OrderPaidEvent> orderPaidEvents) {
+        List<OrderOutboxMessage> outboxMessages = new ArrayList<>(orderPaidEvents.size());
+        for (OrderPaidEvent orderPaidEvent : orderPaidEvents) {
+            outboxMessages.add(toOutboxMessage(
+                    orderPaidEvent.getOrder().getId().getValue(),
+                    OutboxMessageType.RESTAURANT_APPROVAL_REQUEST,
+                    orderDataMapper.orderPaidEventToOrderApprovalEventPayload(orderPaidEvent),
+                    orderPaidEvent.getCreatedAt()));
+        }
+        orderOutboxRepository.saveAll(outboxMessages);
+    }
+
+    private OrderOutboxMessage toOutboxMessage(UUID orderId, OutboxMessageType type, Object payload,
+                                               Instant createdAt) {
+        return OrderOutboxMessage.builder()
+                .id(idGenerator.generate())
+                .orderId(orderId)
+                .type(type)
+                .payload(createPayload(orderId, payload))
+                .createdAt(createdAt)
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    private String createPayload(UUID orderId, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not create outbox payload for order id: {}", orderId, e);
+            throw new OrderDomainException("Could not create outbox payload for order id: " + orderId, e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderOutboxMessage {
+    private final UUID id;
+    private final UUID orderId;
+    private final OutboxMessageType type;
+    private final String payload;
+    private final Instant createdAt;
+    private final Instant processedAt;
+    private final OutboxStatus outboxStatus;
+}
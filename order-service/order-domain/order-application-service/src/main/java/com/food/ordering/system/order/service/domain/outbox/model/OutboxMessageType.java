@@ -0,0 +1,5 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+public enum OutboxMessageType {
+    PAYMENT_REQUEST, RESTAURANT_APPROVAL_REQUEST
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OutboxPublishResult {
+    // acknowledged by the broker
+    private final List<UUID> publishedIds;
+    // can never be published, e.g. the payload cannot be read
+    private final List<UUID> rejectedIds;
+}
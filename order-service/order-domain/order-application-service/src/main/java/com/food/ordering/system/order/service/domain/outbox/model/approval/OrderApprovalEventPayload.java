@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.outbox.model.approval;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderApprovalEventPayload {
+    @JsonProperty
+    private String orderId;
+    @JsonProperty
+    private String restaurantId;
+    @JsonProperty
+    private BigDecimal price;
+    @JsonProperty
+    private List<OrderApprovalEventProduct> products;
+    @JsonProperty
+    private Instant createdAt;
+    @JsonProperty
+    private String restaurantOrderStatus;
+}
@@ -0,0 +1,117 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxPublishResult;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves STARTED outbox rows to Kafka. Each run claims one batch with FOR UPDATE SKIP LOCKED, so several instances can
+ * relay in parallel without publishing the same row twice, sends the whole batch before waiting for acks, and marks
+ * the acknowledged rows COMPLETED with a single update. Rows that were not acknowledged stay STARTED for the next run.
+ * <p>
+ * Claiming and marking share one transaction, so the row locks and a database connection are held while the
+ * publisher waits for the acks, at most outbox-publish-timeout-ms. Keep that timeout well below the lock and
+ * statement timeouts and leave one pool connection per relaying instance. Splitting the claim into its own
+ * transaction would release the locks before the rows are marked and let another instance publish them again.
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderOutboxMessagePublisher orderOutboxMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Clock clock;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter unacknowledgedCounter;
+    private final Counter rejectedCounter;
+    private final DistributionSummary claimedSummary;
+    private final Timer relayTimer;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderOutboxMessagePublisher orderOutboxMessagePublisher,
+                            OrderServiceConfigData orderServiceConfigData,
+                            Clock clock,
+                            MeterRegistry meterRegistry) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderOutboxMessagePublisher = orderOutboxMessagePublisher;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.clock = clock;
+        Gauge.builder("order.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest outbox message that has not been published")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("order.outbox.published").register(meterRegistry);
+        this.unacknowledgedCounter = Counter.builder("order.outbox.unacknowledged").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.outbox.rejected").register(meterRegistry);
+        this.claimedSummary = DistributionSummary.builder("order.outbox.claimed").register(meterRegistry);
+        this.relayTimer = Timer.builder("order.outbox.relay").register(meterRegistry);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${order-service.outbox-poll-interval-ms:100}")
+    public void relayOutboxMessages() {
+        if (!orderServiceConfigData.getOutboxEnabled()) {
+            return;
+        }
+        relayTimer.record(this::relayBatch);
+        updateLag();
+    }
+
+    private void relayBatch() {
+        List<OrderOutboxMessage> outboxMessages =
+                orderOutboxRepository.claimStartedMessages(orderServiceConfigData.getOutboxBatchSize());
+        if (outboxMessages.isEmpty()) {
+            return;
+        }
+        claimedSummary.record(outboxMessages.size());
+
+        OutboxPublishResult outboxPublishResult = orderOutboxMessagePublisher.publish(outboxMessages);
+        int publishedCount = outboxPublishResult.getPublishedIds().size();
+        int rejectedCount = outboxPublishResult.getRejectedIds().size();
+        if (publishedCount > 0) {
+            orderOutboxRepository.markCompleted(outboxPublishResult.getPublishedIds(), clock.instant());
+        }
+        if (rejectedCount > 0) {
+            log.error("Outbox messages {} can not be published and are marked as failed",
+                    outboxPublishResult.getRejectedIds());
+            orderOutboxRepository.markFailed(outboxPublishResult.getRejectedIds(), clock.instant());
+        }
+
+        publishedCounter.increment(publishedCount);
+        rejectedCounter.increment(rejectedCount);
+        int unacknowledged = outboxMessages.size() - publishedCount - rejectedCount;
+        if (unacknowledged > 0) {
+            unacknowledgedCounter.increment(unacknowledged);
+            log.warn("{} of {} outbox messages were not acknowledged and will be retried", unacknowledged,
+                    outboxMessages.size());
+        }
+        log.debug("Relayed {} outbox messages", publishedCount);
+    }
+
+    private void updateLag() {
+        Optional<Instant> oldestStartedCreatedAt = orderOutboxRepository.findOldestStartedCreatedAt();
+        lagMillis.set(oldestStartedCreatedAt
+                .map(createdAt -> Math.max(0L, Duration.between(createdAt, clock.instant()).toMillis()))
+                .orElse(0L));
+    }
+}
@@ -1,8 +1,14 @@
 package com.food.ordering.system.order.service.domain.ports.input.message.listener.payment;
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import java.util.List;
 
 public interface PaymentResponseMessageListener {
     void paymentCompleted(PaymentResponse paymentResponse);
     void paymentCancelled(PaymentResponse paymentResponse);
+
+    /**
+     * Applies completed and cancelled payments of one consumer batch in a single transaction.
+     */
+    void paymentResponsesReceived(List<PaymentResponse> paymentResponses);
 }
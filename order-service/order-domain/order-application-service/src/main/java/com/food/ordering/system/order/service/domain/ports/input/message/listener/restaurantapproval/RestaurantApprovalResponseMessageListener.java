@@ -1,8 +1,14 @@
 package com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval;
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import java.util.List;
 
 public interface RestaurantApprovalResponseMessageListener {
     void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse);
     void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse);
+
+    /**
+     * Applies approvals and rejections of one consumer batch in a single transaction.
+     */
+    void approvalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses);
 }
@@ -2,12 +2,15 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrdersResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import javax.validation.Valid;
 
 public interface OrderApplicationService {
     CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
+    CreateOrdersResponse createOrders(@Valid CreateOrdersCommand createOrdersCommand);
     TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
 
 }
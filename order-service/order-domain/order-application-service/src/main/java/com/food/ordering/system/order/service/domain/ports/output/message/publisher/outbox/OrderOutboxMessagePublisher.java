@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxPublishResult;
+import java.util.List;
+
+public interface OrderOutboxMessagePublisher {
+
+    /**
+     * Sends all messages without waiting in between, then waits for the broker acknowledgements. Messages that are
+     * neither published nor rejected are left for the next attempt.
+     */
+    OutboxPublishResult publish(List<OrderOutboxMessage> outboxMessages);
+}
@@ -2,6 +2,9 @@ package com.food.ordering.system.order.service.domain.ports.output.message.publi
 
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import java.util.List;
 
 public interface OrderCreatedPaymentRequestMessagePublisher extends DomainEventPublisher<OrderCreateEvent> {
+
+    void publishAll(List<OrderCreateEvent> domainEvents);
 }
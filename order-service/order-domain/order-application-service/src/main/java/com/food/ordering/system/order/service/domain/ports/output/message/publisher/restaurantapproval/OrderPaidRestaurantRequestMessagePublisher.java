@@ -2,6 +2,9 @@ package com.food.ordering.system.order.service.domain.ports.output.message.publi
 
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import java.util.List;
 
 public interface OrderPaidRestaurantRequestMessagePublisher extends DomainEventPublisher<OrderPaidEvent> {
+
+    void publishAll(List<OrderPaidEvent> domainEvents);
 }
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface OrderInboxRepository {
+
+    /**
+     * Records the message ids in the current transaction and returns the ids that were not recorded before.
+     */
+    Set<UUID> saveNew(Collection<UUID> messageIds, Instant receivedAt);
+
+    int deleteReceivedBefore(Instant receivedAt);
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderOutboxRepository {
+
+    void saveAll(List<OrderOutboxMessage> outboxMessages);
+
+    /**
+     * Locks up to {@code batchSize} of the oldest STARTED messages for the current transaction, skipping rows already
+     * locked by another relay.
+     */
+    List<OrderOutboxMessage> claimStartedMessages(int batchSize);
+
+    int markCompleted(List<UUID> outboxMessageIds, Instant processedAt);
+
+    int markFailed(List<UUID> outboxMessageIds, Instant processedAt);
+
+    Optional<Instant> findOldestStartedCreatedAt();
+}
@@ -1,14 +1,45 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.transition.OrderStatusTransition;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.Optional;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    List<Order> insertAll(List<Order> orders);
+
+    /**
+     * Writes the status and failure messages of already persisted orders, the only fields saga steps change.
+     */
+    void updateAll(List<Order> orders);
+
+    /**
+     * Approves the given orders that are still PAID in one statement and returns the orders that matched.
+     */
+    List<OrderStatusTransition> approveOrders(Collection<UUID> orderIds);
+
+    /**
+     * Moves the given orders that are still PAID to CANCELLING in one statement, appending their failure messages,
+     * and returns the orders that matched.
+     */
+    List<OrderStatusTransition> initCancelOrders(Map<UUID, List<String>> failureMessagesByOrderId);
+
     Optional<Order> findByTrackingId(TrackingId trackingId);
 
+    List<Order> findOrders(Collection<UUID> orderIds);
+
+    /**
+     * Reads only the tracking columns of the order, without loading its items or address.
+     */
+    Optional<TrackOrderResponse> findOrderTracking(TrackingId trackingId);
+
 
 }
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import java.util.Optional;
+
+/**
+ * Local status lookup for in-flight orders. Only orders without failure messages are kept, so a hit can be served
+ * without reading the order.
+ */
+public interface OrderStatusIndex {
+
+    Optional<TrackOrderResponse> findOrderTracking(TrackingId trackingId);
+
+    void put(Order order);
+
+    void remove(TrackingId trackingId);
+}
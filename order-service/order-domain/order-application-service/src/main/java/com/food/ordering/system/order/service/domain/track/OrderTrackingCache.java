@@ -0,0 +1,83 @@
+package com.food.ordering.system.order.service.domain.track;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracking responses by tracking id. Entries are replaced when this instance changes an order's state (see
+ * {@link OrderTrackingRefresher}); expire-after-write bounds how stale an entry can get when another
+ * instance changed the order.
+ */
+@Component
+public class OrderTrackingCache {
+
+    private static final String CACHE_NAME = "order.tracking";
+
+    private final boolean enabled;
+    private final Cache<UUID, CachedTrackOrderResponse> trackingCache;
+    private final Timer entryAgeTimer;
+
+    public OrderTrackingCache(OrderServiceConfigData orderServiceConfigData, MeterRegistry meterRegistry) {
+        this.enabled = orderServiceConfigData.getTrackingCacheEnabled();
+        this.trackingCache = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getTrackingCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(orderServiceConfigData.getTrackingCacheExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, trackingCache, CACHE_NAME);
+        this.entryAgeTimer = Timer.builder("order.tracking.cache.entry.age")
+                .description("Time since a served tracking response was written to the cache")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public Optional<TrackOrderResponse> find(TrackingId trackingId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CachedTrackOrderResponse cached = trackingCache.getIfPresent(trackingId.getValue());
+        if (cached == null) {
+            return Optional.empty();
+        }
+        entryAgeTimer.record(System.nanoTime() - cached.cachedAtNanos(), TimeUnit.NANOSECONDS);
+        return Optional.of(cached.trackOrderResponse());
+    }
+
+    public void put(TrackOrderResponse trackOrderResponse) {
+        if (enabled) {
+            trackingCache.put(trackOrderResponse.getOrderTrackingId(),
+                    new CachedTrackOrderResponse(trackOrderResponse, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Read-through fill. Keeps an entry written meanwhile, e.g. by {@link OrderTrackingRefresher} after a commit, so a
+     * response read before that commit cannot replace the newer state. Returns the response now cached.
+     */
+    public TrackOrderResponse putIfAbsent(TrackOrderResponse trackOrderResponse) {
+        if (!enabled) {
+            return trackOrderResponse;
+        }
+        CachedTrackOrderResponse cached = trackingCache.asMap().putIfAbsent(trackOrderResponse.getOrderTrackingId(),
+                new CachedTrackOrderResponse(trackOrderResponse, System.nanoTime()));
+        return cached == null ? trackOrderResponse : cached.trackOrderResponse();
+    }
+
+    public void invalidate(TrackingId trackingId) {
+        trackingCache.invalidate(trackingId.getValue());
+    }
+
+    private record CachedTrackOrderResponse(TrackOrderResponse trackOrderResponse, long cachedAtNanos) {
+    }
+}
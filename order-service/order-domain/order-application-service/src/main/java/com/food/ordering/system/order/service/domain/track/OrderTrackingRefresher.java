@@ -0,0 +1,89 @@
+package com.food.ordering.system.order.service.domain.track;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusIndex;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps {@link OrderTrackingCache} and the optional {@link OrderStatusIndex} in line with order state changes. Cached
+ * entries are dropped at once and the new state is only written once the surrounding transaction commits, so a rolled
+ * back change never becomes visible. Outside a transaction entries are only dropped. The index keeps pending and paid
+ * orders; later states carry failure messages or are final and are removed.
+ */
+@Component
+public class OrderTrackingRefresher {
+
+    private final OrderTrackingCache orderTrackingCache;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderStatusIndex orderStatusIndex;
+
+    public OrderTrackingRefresher(OrderTrackingCache orderTrackingCache,
+                                  OrderDataMapper orderDataMapper,
+                                  ObjectProvider<OrderStatusIndex> orderStatusIndex) {
+        this.orderTrackingCache = orderTrackingCache;
+        this.orderDataMapper = orderDataMapper;
+        this.orderStatusIndex = orderStatusIndex.getIfAvailable();
+    }
+
+    public void refreshAfterCommit(Order order) {
+        orderTrackingCache.invalidate(order.getTrackingId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeFromStatusIndex(order.getTrackingId());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderTrackingCache.put(orderDataMapper.toTrackOrderResponse(order));
+                updateStatusIndex(order);
+            }
+        });
+    }
+
+    /**
+     * For changes written without an {@link Order} at hand. The entries are dropped again after commit so a read
+     * racing the transaction cannot leave the old state cached.
+     */
+    public void evictAfterCommit(List<TrackingId> trackingIds) {
+        evict(trackingIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(trackingIds);
+                }
+            });
+        }
+    }
+
+    private void evict(List<TrackingId> trackingIds) {
+        for (TrackingId trackingId : trackingIds) {
+            orderTrackingCache.invalidate(trackingId);
+            removeFromStatusIndex(trackingId);
+        }
+    }
+
+    private void updateStatusIndex(Order order) {
+        if (orderStatusIndex == null) {
+            return;
+        }
+        if (order.getOrderStatus() == OrderStatus.PENDING || order.getOrderStatus() == OrderStatus.PAID) {
+            orderStatusIndex.put(order);
+        } else {
+            orderStatusIndex.remove(order.getTrackingId());
+        }
+    }
+
+    private void removeFromStatusIndex(TrackingId trackingId) {
+        if (orderStatusIndex != null) {
+            orderStatusIndex.remove(trackingId);
+        }
+    }
+}
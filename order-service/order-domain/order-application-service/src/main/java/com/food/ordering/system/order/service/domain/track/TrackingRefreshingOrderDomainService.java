@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.domain.track;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import java.util.List;
+
+/**
+ * Hands every order whose state changed to {@link OrderTrackingRefresher}.
+ */
+public class TrackingRefreshingOrderDomainService implements OrderDomainService {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderTrackingRefresher orderTrackingRefresher;
+
+    public TrackingRefreshingOrderDomainService(OrderDomainService orderDomainService,
+                                                OrderTrackingRefresher orderTrackingRefresher) {
+        this.orderDomainService = orderDomainService;
+        this.orderTrackingRefresher = orderTrackingRefresher;
+    }
+
+    @Override
+    public OrderCreateEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
+        OrderCreateEvent orderCreateEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
+        orderTrackingRefresher.refreshAfterCommit(order);
+        return orderCreateEvent;
+    }
+
+    @Override
+    public OrderPaidEvent payOrder(Order order) {
+        OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order);
+        orderTrackingRefresher.refreshAfterCommit(order);
+        return orderPaidEvent;
+    }
+
+    @Override
+    public void approveOrder(Order order) {
+        orderDomainService.approveOrder(order);
+        orderTrackingRefresher.refreshAfterCommit(order);
+    }
+
+    @Override
+    public OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages) {
+        OrderCancelledEvent orderCancelledEvent = orderDomainService.cancelOrderPayment(order, failureMessages);
+        orderTrackingRefresher.refreshAfterCommit(order);
+        return orderCancelledEvent;
+    }
+
+    @Override
+    public void cancelOrder(Order order) {
+        orderDomainService.cancelOrder(order);
+        orderTrackingRefresher.refreshAfterCommit(order);
+    }
+}
@@ -0,0 +1,173 @@
+package com.food.ordering.system.order.service.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.food.ordering.system.domain.vo.OrderApprovalStatus;
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.dto.transition.OrderStatusTransition;
+import com.food.ordering.system.order.service.domain.inbox.OrderInboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.track.OrderTrackingRefresher;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.slf4j.LoggerFactory;
+
+public class OrderApprovalResponseHelperTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private OrderRepository orderRepository;
+    private OrderOutboxHelper orderOutboxHelper;
+    private OrderTrackingRefresher orderTrackingRefresher;
+    private OrderServiceConfigData orderServiceConfigData;
+    private OrderApprovalResponseHelper orderApprovalResponseHelper;
+    private ListAppender<ILoggingEvent> logEvents;
+
+    @BeforeEach
+    public void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderOutboxHelper = mock(OrderOutboxHelper.class);
+        orderTrackingRefresher = mock(OrderTrackingRefresher.class);
+        OrderInboxHelper orderInboxHelper = mock(OrderInboxHelper.class);
+        when(orderInboxHelper.saveNew(anyList(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOutboxEnabled(true);
+        orderServiceConfigData.setApprovalBulkUpdateEnabled(true);
+        orderApprovalResponseHelper = new OrderApprovalResponseHelper(mock(OrderDomainService.class), orderRepository,
+                orderOutboxHelper, orderInboxHelper, orderTrackingRefresher, orderServiceConfigData,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        logEvents = new ListAppender<>();
+        logEvents.start();
+        helperLogger().addAppender(logEvents);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        helperLogger().detachAppender(logEvents);
+    }
+
+    @Test
+    public void testApprovalIsAppliedBeforeRejectionOfSameOrder() {
+        UUID orderId = UUID.randomUUID();
+        OrderStatusTransition approved = transition(orderId, OrderStatus.APPROVED);
+        when(orderRepository.approveOrders(anyCollection())).thenReturn(List.of(approved));
+        when(orderRepository.initCancelOrders(anyMap())).thenReturn(List.of());
+
+        orderApprovalResponseHelper.processApprovalResponses(List.of(
+                response(orderId, OrderApprovalStatus.REJECTED, "closed"),
+                response(orderId, OrderApprovalStatus.APPROVED)));
+
+        InOrder inOrder = inOrder(orderRepository);
+        inOrder.verify(orderRepository).approveOrders(Set.of(orderId));
+        inOrder.verify(orderRepository).initCancelOrders(Map.of(orderId, List.of("closed")));
+        verify(orderOutboxHelper, never()).saveCancelPaymentOutboxMessages(anyList(), any());
+        verify(orderTrackingRefresher).evictAfterCommit(List.of(new TrackingId(approved.getTrackingId())));
+        verify(orderRepository, never()).findOrders(anyCollection());
+    }
+
+    @Test
+    public void testCancelOutboxRowsAreWrittenOnlyForMatchedOrders() {
+        UUID matchedOrderId = UUID.randomUUID();
+        UUID unmatchedOrderId = UUID.randomUUID();
+        OrderStatusTransition cancelling = transition(matchedOrderId, OrderStatus.CANCELLING);
+        when(orderRepository.initCancelOrders(anyMap())).thenReturn(List.of(cancelling));
+
+        orderApprovalResponseHelper.processApprovalResponses(List.of(
+                response(matchedOrderId, OrderApprovalStatus.REJECTED, "first"),
+                response(unmatchedOrderId, OrderApprovalStatus.REJECTED, "other"),
+                response(matchedOrderId, OrderApprovalStatus.REJECTED, "second")));
+
+        verify(orderRepository, never()).approveOrders(anyCollection());
+        verify(orderRepository).initCancelOrders(Map.of(
+                matchedOrderId, List.of("first", "second"),
+                unmatchedOrderId, List.of("other")));
+        verify(orderOutboxHelper).saveCancelPaymentOutboxMessages(List.of(cancelling), NOW);
+    }
+
+    @Test
+    public void testUnmatchedOrderIdsAreReported() {
+        UUID matchedOrderId = UUID.randomUUID();
+        UUID unmatchedOrderId = UUID.randomUUID();
+        when(orderRepository.approveOrders(anyCollection()))
+                .thenReturn(List.of(transition(matchedOrderId, OrderStatus.APPROVED)));
+
+        orderApprovalResponseHelper.processApprovalResponses(List.of(
+                response(matchedOrderId, OrderApprovalStatus.APPROVED),
+                response(unmatchedOrderId, OrderApprovalStatus.APPROVED)));
+
+        assertThat(logEvents.list)
+                .filteredOn(event -> event.getLevel() == Level.WARN)
+                .singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage())
+                        .contains("approve", unmatchedOrderId.toString())
+                        .doesNotContain(matchedOrderId.toString()));
+    }
+
+    @Test
+    public void testOrdersAreLoadedWhenBulkUpdateIsDisabled() {
+        orderServiceConfigData.setApprovalBulkUpdateEnabled(false);
+        UUID orderId = UUID.randomUUID();
+
+        orderApprovalResponseHelper.processApprovalResponses(List.of(response(orderId, OrderApprovalStatus.APPROVED)));
+
+        verify(orderRepository).findOrders(Set.of(orderId));
+        verify(orderRepository, never()).approveOrders(anyCollection());
+    }
+
+    private static Logger helperLogger() {
+        return (Logger) LoggerFactory.getLogger(OrderApprovalResponseHelper.class);
+    }
+
+    private static RestaurantApprovalResponse response(UUID orderId,
+                                                       OrderApprovalStatus orderApprovalStatus,
+                                                       String... failureMessages) {
+        return RestaurantApprovalResponse.builder()
+                .id(UUID.randomUUID())
+                .sagaId("")
+                .orderId(orderId)
+                .restaurantId(UUID.randomUUID().toString())
+                .createdAt(NOW)
+                .orderApprovalStatus(orderApprovalStatus)
+                .failureMessages(List.of(failureMessages))
+                .build();
+    }
+
+    private static OrderStatusTransition transition(UUID orderId, OrderStatus orderStatus) {
+        return OrderStatusTransition.builder()
+                .orderId(orderId)
+                .trackingId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .price(new BigDecimal("10.00"))
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .build();
+    }
+}
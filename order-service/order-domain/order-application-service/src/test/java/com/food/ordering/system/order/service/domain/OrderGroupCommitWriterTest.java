@@ -0,0 +1,201 @@
+package com.food.ordering.system.order.service.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class OrderGroupCommitWriterTest {
+
+    private OrderRepository orderRepository;
+    private OrderOutboxHelper orderOutboxHelper;
+    private OrderServiceConfigData orderServiceConfigData;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private OrderGroupCommitWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderOutboxHelper = mock(OrderOutboxHelper.class);
+        orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setGroupCommitQueueCapacity(16);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.close();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentOrdersShareOneCommit() throws Exception {
+        orderServiceConfigData.setGroupCommitMaxBatchSize(3);
+        orderServiceConfigData.setGroupCommitMaxWaitMs(1_000L);
+        List<List<Order>> groups = new ArrayList<>();
+        when(orderRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            groups.add(List.copyOf(orders));
+            return orders;
+        });
+        startWriter();
+
+        List<Future<?>> writes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            writes.add(executor.submit(() -> writer.write(orderCreateEvent())));
+        }
+        for (Future<?> write : writes) {
+            write.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(groups).hasSize(1);
+        assertThat(groups.get(0)).hasSize(3);
+        verify(orderOutboxHelper, times(1)).savePaymentOutboxMessages(anyList());
+        assertThat(meterRegistry.get("order.group-commit.size").summary().max()).isEqualTo(3.0);
+    }
+
+    @Test
+    public void testFailedGroupFallsBackToOneCommitPerOrder() throws Exception {
+        orderServiceConfigData.setGroupCommitMaxBatchSize(3);
+        orderServiceConfigData.setGroupCommitMaxWaitMs(1_000L);
+        OrderCreateEvent badOrder = orderCreateEvent();
+        when(orderRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            if (orders.contains(badOrder.getOrder())) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return orders;
+        });
+        startWriter();
+
+        Future<?> good1 = executor.submit(() -> writer.write(orderCreateEvent()));
+        Future<?> bad = executor.submit(() -> writer.write(badOrder));
+        Future<?> good2 = executor.submit(() -> writer.write(orderCreateEvent()));
+
+        good1.get(5, TimeUnit.SECONDS);
+        good2.get(5, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(orderRepository, times(4)).insertAll(anyList());
+        assertThat(meterRegistry.get("order.group-commit.fallback").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void testQueuedOrderFailsOnTimeoutAndIsNeverSaved() throws Exception {
+        orderServiceConfigData.setGroupCommitMaxBatchSize(1);
+        orderServiceConfigData.setGroupCommitTimeoutMs(200L);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        List<Order> savedOrders = new ArrayList<>();
+        when(orderRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            firstStarted.countDown();
+            releaseFirst.await(5, TimeUnit.SECONDS);
+            savedOrders.addAll(orders);
+            return orders;
+        });
+        startWriter();
+
+        OrderCreateEvent first = orderCreateEvent();
+        Future<?> firstWrite = executor.submit(() -> writer.write(first));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        OrderCreateEvent second = orderCreateEvent();
+        assertThatThrownBy(() -> writer.write(second))
+                .isInstanceOf(OrderDomainException.class)
+                .hasMessageContaining("Timed out");
+
+        releaseFirst.countDown();
+        firstWrite.get(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        assertThat(savedOrders).containsExactly(first.getOrder());
+    }
+
+    @Test
+    public void testOrderTakenByWriterWaitsForRealOutcomeAfterTimeout() throws Exception {
+        orderServiceConfigData.setGroupCommitMaxBatchSize(1);
+        orderServiceConfigData.setGroupCommitTimeoutMs(100L);
+        when(orderRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return invocation.getArgument(0);
+        });
+        startWriter();
+
+        writer.write(orderCreateEvent());
+
+        verify(orderRepository, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    public void testCloseFailsQueuedOrdersAndRejectsNewOnes() throws Exception {
+        orderServiceConfigData.setGroupCommitMaxBatchSize(1);
+        orderServiceConfigData.setGroupCommitTimeoutMs(300L);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        when(orderRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            firstStarted.countDown();
+            releaseFirst.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        startWriter();
+
+        Future<?> firstWrite = executor.submit(() -> writer.write(orderCreateEvent()));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> queuedWrite = executor.submit(() -> writer.write(orderCreateEvent()));
+        Thread.sleep(50);
+
+        writer.close();
+
+        assertThatThrownBy(() -> queuedWrite.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(OrderDomainException.class);
+        assertThatThrownBy(() -> writer.write(orderCreateEvent()))
+                .isInstanceOf(OrderDomainException.class);
+        releaseFirst.countDown();
+        firstWrite.get(5, TimeUnit.SECONDS);
+        verify(orderRepository, times(1)).insertAll(anyList());
+    }
+
+    private void startWriter() {
+        writer = new OrderGroupCommitWriter(orderRepository, orderOutboxHelper, orderServiceConfigData,
+                mock(PlatformTransactionManager.class), meterRegistry);
+        writer.start();
+    }
+
+    private static OrderCreateEvent orderCreateEvent() {
+        Order order = Order.OrderBuilder.builder()
+                .id(new OrderId(UUID.randomUUID()))
+                .build();
+        return new OrderCreateEvent(order, Instant.now());
+    }
+}
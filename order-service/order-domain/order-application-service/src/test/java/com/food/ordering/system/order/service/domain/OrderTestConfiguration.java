@@ -1,14 +1,25 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.domain.time.CachedMillisClock;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderInboxRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
 import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
 
 
 @SpringBootApplication(scanBasePackages = "com.food.ordering.system")
@@ -29,11 +40,26 @@ public class OrderTestConfiguration {
         return Mockito.mock(OrderPaidRestaurantRequestMessagePublisher.class);
     }
 
+    @Bean
+    public OrderOutboxMessagePublisher orderOutboxMessagePublisher() {
+        return Mockito.mock(OrderOutboxMessagePublisher.class);
+    }
+
     @Bean
     public OrderRepository orderRepository() {
         return Mockito.mock(OrderRepository.class);
     }
 
+    @Bean
+    public OrderOutboxRepository orderOutboxRepository() {
+        return Mockito.mock(OrderOutboxRepository.class);
+    }
+
+    @Bean
+    public OrderInboxRepository orderInboxRepository() {
+        return Mockito.mock(OrderInboxRepository.class);
+    }
+
     @Bean
     public CustomerRepository customerRepository() {
         return Mockito.mock(CustomerRepository.class);
@@ -44,8 +70,29 @@ public class OrderTestConfiguration {
         return Mockito.mock(RestaurantRepository.class);
     }
 
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    @Primary
+    public IdGenerator idGenerator() {
+        return new TimeOrderedIdGenerator();
+    }
+
+    @Bean
+    public IdGenerator trackingIdGenerator() {
+        return new RandomIdGenerator();
+    }
+
+    @Bean
+    public Clock clock() {
+        return new CachedMillisClock();
+    }
+
     @Bean
     public OrderDomainService orderDomainService() {
-        return new OrderDomainServiceImpl();
+        return new OrderDomainServiceImpl(idGenerator(), trackingIdGenerator(), clock());
     }
 }
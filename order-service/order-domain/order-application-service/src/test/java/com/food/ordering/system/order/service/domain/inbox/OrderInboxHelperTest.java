@@ -0,0 +1,122 @@
+package com.food.ordering.system.order.service.domain.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderInboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class OrderInboxHelperTest {
+
+    private OrderInboxRepository orderInboxRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderInboxHelper orderInboxHelper;
+
+    @BeforeEach
+    public void setUp() {
+        orderInboxRepository = mock(OrderInboxRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        orderInboxHelper = new OrderInboxHelper(orderInboxRepository, new OrderServiceConfigData(),
+                Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC), meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testFilterIsPopulatedOnlyAfterCommit() {
+        Message message = new Message(UUID.randomUUID());
+        when(orderInboxRepository.saveNew(anyCollection(), any())).thenReturn(Set.of(message.id()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(orderInboxHelper.saveNew(List.of(message), Message::id)).containsExactly(message);
+        assertThat(orderInboxHelper.removeSeen(List.of(message), Message::id)).containsExactly(message);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(orderInboxHelper.removeSeen(List.of(message), Message::id)).isEmpty();
+        assertThat(meterRegistry.get("order.inbox.duplicates").tag("stage", "filter").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    public void testRolledBackIdsAreNotRemembered() {
+        Message message = new Message(UUID.randomUUID());
+        when(orderInboxRepository.saveNew(anyCollection(), any())).thenReturn(Set.of(message.id()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderInboxHelper.saveNew(List.of(message), Message::id);
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(orderInboxHelper.removeSeen(List.of(message), Message::id)).containsExactly(message);
+    }
+
+    @Test
+    public void testRepeatedIdsWithinBatchKeepFirstMessage() {
+        UUID messageId = UUID.randomUUID();
+        Message first = new Message(messageId, "first");
+        Message repeated = new Message(messageId, "repeated");
+        Message other = new Message(UUID.randomUUID());
+
+        List<Message> unseen = orderInboxHelper.removeSeen(List.of(first, repeated, other), Message::id);
+
+        assertThat(unseen).containsExactly(first, other);
+    }
+
+    @Test
+    public void testMessagesWithoutIdPassThrough() {
+        Message noId = new Message(null);
+
+        assertThat(orderInboxHelper.removeSeen(List.of(noId, noId), Message::id)).containsExactly(noId, noId);
+        assertThat(orderInboxHelper.saveNew(List.of(noId), Message::id)).containsExactly(noId);
+        verify(orderInboxRepository, never()).saveNew(anyCollection(), any());
+    }
+
+    @Test
+    public void testSaveNewReturnsOnlyMessagesNotRecordedBefore() {
+        Message recorded = new Message(UUID.randomUUID());
+        Message fresh = new Message(UUID.randomUUID());
+        Message freshRepeated = new Message(fresh.id(), "repeated");
+        Message noId = new Message(null);
+        when(orderInboxRepository.saveNew(anyCollection(), any())).thenReturn(Set.of(fresh.id()));
+
+        List<Message> newMessages = orderInboxHelper.saveNew(List.of(recorded, fresh, freshRepeated, noId),
+                Message::id);
+
+        assertThat(newMessages).containsExactly(fresh, noId);
+        verify(orderInboxRepository).saveNew(Set.of(recorded.id(), fresh.id()),
+                Instant.parse("2024-01-01T00:00:00Z"));
+        assertThat(meterRegistry.get("order.inbox.duplicates").tag("stage", "inbox").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    private record Message(UUID id, String payload) {
+        Message(UUID id) {
+            this(id, "payload");
+        }
+    }
+}
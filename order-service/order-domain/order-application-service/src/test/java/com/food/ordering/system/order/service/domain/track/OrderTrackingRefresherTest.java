@@ -0,0 +1,141 @@
+package com.food.ordering.system.order.service.domain.track;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusIndex;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class OrderTrackingRefresherTest {
+
+    private OrderTrackingCache orderTrackingCache;
+    private OrderStatusIndex orderStatusIndex;
+    private OrderTrackingRefresher orderTrackingRefresher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        orderTrackingCache = new OrderTrackingCache(new OrderServiceConfigData(), new SimpleMeterRegistry());
+        orderStatusIndex = mock(OrderStatusIndex.class);
+        ObjectProvider<OrderStatusIndex> orderStatusIndexProvider = mock(ObjectProvider.class);
+        when(orderStatusIndexProvider.getIfAvailable()).thenReturn(orderStatusIndex);
+        orderTrackingRefresher = new OrderTrackingRefresher(orderTrackingCache,
+                new OrderDataMapper(mock(IdGenerator.class)), orderStatusIndexProvider);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testTransitionInvalidatesAtOnceAndWritesNewStateAfterCommit() {
+        TrackingId trackingId = new TrackingId(UUID.randomUUID());
+        orderTrackingCache.put(response(trackingId, OrderStatus.PENDING));
+        Order paidOrder = order(trackingId, OrderStatus.PAID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderTrackingRefresher.refreshAfterCommit(paidOrder);
+
+        assertThat(orderTrackingCache.find(trackingId)).isEmpty();
+        verify(orderStatusIndex, never()).put(any());
+
+        commit();
+
+        assertThat(orderTrackingCache.find(trackingId)).hasValueSatisfying(response ->
+                assertThat(response.getOrderStatus()).isEqualTo(OrderStatus.PAID));
+        verify(orderStatusIndex).put(paidOrder);
+    }
+
+    @Test
+    public void testRollbackLeavesNoEntry() {
+        TrackingId trackingId = new TrackingId(UUID.randomUUID());
+        orderTrackingCache.put(response(trackingId, OrderStatus.PENDING));
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderTrackingRefresher.refreshAfterCommit(order(trackingId, OrderStatus.PAID));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(orderTrackingCache.find(trackingId)).isEmpty();
+        verify(orderStatusIndex, never()).put(any());
+    }
+
+    @Test
+    public void testReadThroughFillNeverReplacesNewerRefreshedEntry() {
+        TrackingId trackingId = new TrackingId(UUID.randomUUID());
+        // a tracking read loaded the order before the transition committed
+        TrackOrderResponse staleRead = response(trackingId, OrderStatus.PENDING);
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderTrackingRefresher.refreshAfterCommit(order(trackingId, OrderStatus.PAID));
+        commit();
+
+        TrackOrderResponse served = orderTrackingCache.putIfAbsent(staleRead);
+
+        assertThat(served.getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(orderTrackingCache.find(trackingId)).hasValueSatisfying(response ->
+                assertThat(response.getOrderStatus()).isEqualTo(OrderStatus.PAID));
+    }
+
+    @Test
+    public void testEvictAfterCommitDropsEntryCachedDuringTransaction() {
+        TrackingId trackingId = new TrackingId(UUID.randomUUID());
+        orderTrackingCache.put(response(trackingId, OrderStatus.PAID));
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderTrackingRefresher.evictAfterCommit(List.of(trackingId));
+        assertThat(orderTrackingCache.find(trackingId)).isEmpty();
+        orderTrackingCache.putIfAbsent(response(trackingId, OrderStatus.PAID));
+        commit();
+
+        assertThat(orderTrackingCache.find(trackingId)).isEmpty();
+        verify(orderStatusIndex, times(2)).remove(trackingId);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static Order order(TrackingId trackingId, OrderStatus orderStatus) {
+        return Order.OrderBuilder.builder()
+                .id(new OrderId(UUID.randomUUID()))
+                .trackingId(trackingId)
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .build();
+    }
+
+    private static TrackOrderResponse response(TrackingId trackingId, OrderStatus orderStatus) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(trackingId.getValue())
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .build();
+    }
+}
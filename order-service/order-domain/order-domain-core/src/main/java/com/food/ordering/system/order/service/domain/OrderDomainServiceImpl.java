@@ -1,5 +1,9 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.id.IdGenerator;
+import com.food.ordering.system.domain.id.RandomIdGenerator;
+import com.food.ordering.system.domain.id.TimeOrderedIdGenerator;
+import com.food.ordering.system.domain.time.CachedMillisClock;
 import com.food.ordering.system.domain.vo.ProductId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
@@ -8,8 +12,7 @@ import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -19,16 +22,28 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService {
 
-    private static final ZonedDateTime UTC_NOW_TIME = ZonedDateTime.now(ZoneId.of("UTC"));
+    private final IdGenerator idGenerator;
+    private final IdGenerator trackingIdGenerator;
+    private final Clock clock;
+
+    public OrderDomainServiceImpl() {
+        this(new TimeOrderedIdGenerator(), new RandomIdGenerator(), new CachedMillisClock());
+    }
+
+    public OrderDomainServiceImpl(IdGenerator idGenerator, IdGenerator trackingIdGenerator, Clock clock) {
+        this.idGenerator = idGenerator;
+        this.trackingIdGenerator = trackingIdGenerator;
+        this.clock = clock;
+    }
 
     @Override
     public OrderCreateEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
         validateRestaurant(restaurant);
         setOrderProductInformation(order, restaurant);
         order.validateOrder();
-        order.initializeOrder();
+        order.initializeOrder(idGenerator, trackingIdGenerator);
         log.info("Order with id: {} is initiated", order.getId());
-        return new OrderCreateEvent(order, UTC_NOW_TIME);
+        return new OrderCreateEvent(order, clock.instant());
     }
 
     private void setOrderProductInformation(Order order, Restaurant restaurant) {
@@ -54,7 +69,7 @@ public class OrderDomainServiceImpl implements OrderDomainService {
     public OrderPaidEvent payOrder(Order order) {
         order.pay();
         log.info("Order with id: {} has been paid", order.getId());
-        return new OrderPaidEvent(order, UTC_NOW_TIME);
+        return new OrderPaidEvent(order, clock.instant());
     }
 
     @Override
@@ -68,7 +83,7 @@ public class OrderDomainServiceImpl implements OrderDomainService {
     public OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages) {
         order.initCancel(failureMessages);
         log.info("Order payment is cancelling for order with id: {}", order.getId());
-        return new OrderCancelledEvent(order, UTC_NOW_TIME);
+        return new OrderCancelledEvent(order, clock.instant());
     }
 
     @Override
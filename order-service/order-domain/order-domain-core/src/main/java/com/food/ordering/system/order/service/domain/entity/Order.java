@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.vo.CustomerId;
 import com.food.ordering.system.domain.vo.Money;
 import com.food.ordering.system.domain.vo.OrderId;
@@ -11,7 +12,6 @@ import com.food.ordering.system.order.service.domain.vo.OrderItemId;
 import com.food.ordering.system.order.service.domain.vo.StreetAddress;
 import com.food.ordering.system.order.service.domain.vo.TrackingId;
 import java.util.List;
-import java.util.UUID;
 import lombok.Getter;
 
 
@@ -27,12 +27,18 @@ public class Order extends AggregateRoot<OrderId> {
     private TrackingId trackingId;
     private OrderStatus orderStatus;
     private List<String> failureMessages;
+    // version of the persisted state this order was read from, null until it is saved
+    private final Long version;
 
     public static final String FAILURE_MESSAGES_DELIMITER = ",";
 
-    public void initializeOrder() {
-        setId(new OrderId(UUID.randomUUID()));
-        trackingId = new TrackingId(UUID.randomUUID());
+    /**
+     * Tracking ids are shown to customers, so they come from a separate generator than the time-ordered primary key
+     * and give away neither the creation time nor the order volume.
+     */
+    public void initializeOrder(IdGenerator idGenerator, IdGenerator trackingIdGenerator) {
+        setId(new OrderId(idGenerator.generate()));
+        trackingId = new TrackingId(trackingIdGenerator.generate());
         orderStatus = OrderStatus.PENDING;
         initializeOrderItems();
     }
@@ -61,7 +67,7 @@ public class Order extends AggregateRoot<OrderId> {
         if (orderStatus != OrderStatus.PAID) {
             throw new OrderDomainException("Order is not in correct state for cancel operation");
         }
-        orderStatus = OrderStatus.CANCELLED;
+        orderStatus = OrderStatus.CANCELLING;
 
         updateFailureMessage(failureMessages);
     }
@@ -87,14 +93,15 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     private void validateItemsPrice() {
-        Money orderItemsTotal = items.stream().map(orderItem -> {
+        long orderItemsTotal = 0L;
+        for (OrderItem orderItem : items) {
             validateItemPrice(orderItem);
-            return orderItem.getSubTotal();
-        }).reduce(Money.ZERO, Money::add);
+            orderItemsTotal = Math.addExact(orderItemsTotal, orderItem.getSubTotal().getMinorUnits());
+        }
 
-        if (!price.equals(orderItemsTotal)) {
+        if (price.getMinorUnits() != orderItemsTotal) {
             throw new OrderDomainException("Total price: " + price.getAmount() + " is not equal to price for items: "
-                    + orderItemsTotal.getAmount());
+                    + Money.ofMinorUnits(orderItemsTotal).getAmount());
         }
     }
 
@@ -135,6 +142,7 @@ public class Order extends AggregateRoot<OrderId> {
         trackingId = orderBuilder.trackingId;
         orderStatus = orderBuilder.orderStatus;
         failureMessages = orderBuilder.failureMessages;
+        version = orderBuilder.version;
     }
 
 
@@ -148,6 +156,7 @@ public class Order extends AggregateRoot<OrderId> {
         private TrackingId trackingId;
         private OrderStatus orderStatus;
         private List<String> failureMessages;
+        private Long version;
 
         private OrderBuilder() {
         }
@@ -201,6 +210,11 @@ public class Order extends AggregateRoot<OrderId> {
             return this;
         }
 
+        public OrderBuilder version(Long val) {
+            version = val;
+            return this;
+        }
+
         public Order build() {
             return new Order(this);
         }
@@ -31,7 +31,7 @@ public class OrderItem extends BaseEntity<OrderItemId> {
     boolean isPriceValid() {
         return price.isGreaterThanZero()
                 && price.equals(product.getPrice())
-                && price.multiply(quantity).equals(subTotal);
+                && Math.multiplyExact(price.getMinorUnits(), (long) quantity) == subTotal.getMinorUnits();
     }
 
     public static final class Builder {
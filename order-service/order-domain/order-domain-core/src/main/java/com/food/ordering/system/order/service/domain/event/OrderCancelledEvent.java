@@ -1,12 +1,12 @@
 package com.food.ordering.system.order.service.domain.event;
 
 import com.food.ordering.system.order.service.domain.entity.Order;
-import java.time.ZonedDateTime;
+import java.time.Instant;
 
 
 
 public class OrderCancelledEvent extends OrderEvent {
-    public OrderCancelledEvent(Order order, ZonedDateTime createdAt) {
+    public OrderCancelledEvent(Order order, Instant createdAt) {
         super(order, createdAt);
     }
 }
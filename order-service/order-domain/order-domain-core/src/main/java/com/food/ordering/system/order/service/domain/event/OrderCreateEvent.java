@@ -1,13 +1,13 @@
 package com.food.ordering.system.order.service.domain.event;
 
 import com.food.ordering.system.order.service.domain.entity.Order;
-import java.time.ZonedDateTime;
+import java.time.Instant;
 
 
 
 public class OrderCreateEvent extends OrderEvent {
 
-    public OrderCreateEvent(Order order, ZonedDateTime createdAt) {
+    public OrderCreateEvent(Order order, Instant createdAt) {
         super(order, createdAt);
     }
 }
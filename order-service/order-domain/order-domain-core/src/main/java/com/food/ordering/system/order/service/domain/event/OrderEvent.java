@@ -2,7 +2,7 @@ package com.food.ordering.system.order.service.domain.event;
 
 import com.food.ordering.system.domain.event.DomainEvent;
 import com.food.ordering.system.order.service.domain.entity.Order;
-import java.time.ZonedDateTime;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,5 +10,5 @@ import lombok.Getter;
 @AllArgsConstructor
 public abstract class OrderEvent implements DomainEvent<Order> {
     private final Order order;
-    private final ZonedDateTime createdAt;
+    private final Instant createdAt;
 }
@@ -0,0 +1,41 @@
+package com.food.ordering.system.service.messaging.admin.kafka;
+
+import com.food.ordering.system.kafka.admin.DeclaredTopic;
+import com.food.ordering.system.kafka.admin.KafkaTopicDeclarations;
+import com.food.ordering.system.kafka.consumer.retry.FailedRecordRouter;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * The request topics the order service publishes to, and the response topics it consumes together with their retry
+ * and dead-letter topics. Dead-letter topics are only read on demand by the replay endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderKafkaTopicDeclarations implements KafkaTopicDeclarations {
+
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final FailedRecordRouter failedRecordRouter;
+
+    @Override
+    public Collection<DeclaredTopic> topics() {
+        List<DeclaredTopic> topics = new ArrayList<>();
+        topics.add(DeclaredTopic.produceOnly(orderServiceConfigData.getPaymentRequestTopicName()));
+        topics.add(DeclaredTopic.produceOnly(orderServiceConfigData.getRestaurantApprovalRequestTopicName()));
+        addWithRetryTopics(topics, orderServiceConfigData.getPaymentResponseTopicName());
+        addWithRetryTopics(topics, orderServiceConfigData.getRestaurantApprovalResponseTopicName());
+        return topics;
+    }
+
+    private void addWithRetryTopics(List<DeclaredTopic> topics, String topicName) {
+        topics.add(DeclaredTopic.consumed(topicName));
+        for (String retryTopicName : failedRecordRouter.retryTopicNames(topicName)) {
+            topics.add(DeclaredTopic.consumed(retryTopicName));
+        }
+        topics.add(DeclaredTopic.produceOnly(failedRecordRouter.deadLetterTopicName(topicName)));
+    }
+}
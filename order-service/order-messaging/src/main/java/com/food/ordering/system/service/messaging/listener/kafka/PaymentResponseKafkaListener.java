@@ -1,13 +1,24 @@
 package com.food.ordering.system.service.messaging.listener.kafka;
 
+import com.food.ordering.system.domain.log.LogSampler;
+import com.food.ordering.system.domain.vo.PaymentStatus;
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
-import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedBatchDispatcher;
+import com.food.ordering.system.kafka.consumer.retry.ConsumedRecord;
+import com.food.ordering.system.kafka.consumer.retry.FailedRecordRouter;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicConsumer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -15,15 +26,30 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentResponseAvroModel> {
+public class PaymentResponseKafkaListener implements KafkaConsumer<SpecificRecordBase>,
+        RetryTopicConsumer<SpecificRecordBase> {
+
+    private static final LogSampler BATCH_LOG_SAMPLER = new LogSampler(Duration.ofSeconds(1));
 
     private final PaymentResponseMessageListener paymentResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedBatchDispatcher keyOrderedBatchDispatcher;
+    private final FailedRecordRouter failedRecordRouter;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
 
     public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
-                                        OrderMessagingDataMapper orderMessagingDataMapper) {
+                                        OrderMessagingDataMapper orderMessagingDataMapper,
+                                        KeyOrderedBatchDispatcher keyOrderedBatchDispatcher,
+                                        FailedRecordRouter failedRecordRouter,
+                                        OrderServiceConfigData orderServiceConfigData,
+                                        KafkaConsumerConfigData kafkaConsumerConfigData) {
         this.paymentResponseMessageListener = paymentResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyOrderedBatchDispatcher = keyOrderedBatchDispatcher;
+        this.failedRecordRouter = failedRecordRouter;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
     }
 
     @Override
@@ -32,28 +58,60 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
             topics = "${order-service.payment-response-topic-name}"
     )
     public void receive(
-            @Payload List<PaymentResponseAvroModel> messages,
+            @Payload List<SpecificRecordBase> messages,
             @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
             @Header(KafkaHeaders.PARTITION_ID) List<Integer> partitions,
-            @Header(KafkaHeaders.OFFSET) List<Long> offsets
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            @Header(name = KafkaHeaders.ACKNOWLEDGMENT, required = false) Acknowledgment acknowledgment
     ) {
-        log.info("{} numver of payment responses received with keys: {}, partitions: {}, offsets: {}",
-                messages.size(), keys.toString(), partitions.toString(), offsets.toString());
-
-        messages.forEach(message -> {
-            if (PaymentStatus.COMPLETED == message.getPaymentStatus()) {
-                log.info("Processing successful payment for order id: {}", message.getOrderId());
-
-                paymentResponseMessageListener.paymentCompleted(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(message)
-                );
-            } else if (PaymentStatus.CANCELLED == message.getPaymentStatus()) {
-                log.info("Processing cancelled payment for order id: {}", message.getOrderId());
-
-                paymentResponseMessageListener.paymentCancelled(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(message)
-                );
+        if (log.isDebugEnabled() && BATCH_LOG_SAMPLER.sample()) {
+            log.debug("{} number of payment responses received with keys: {}, partitions: {}, offsets: {}",
+                    messages.size(), keys, partitions, offsets);
+        }
+
+        process(ConsumedRecord.of(orderServiceConfigData.getPaymentResponseTopicName(), keys, messages));
+        // every lane has committed its transaction or routed its failed records at this point
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    @Override
+    public String topic() {
+        return orderServiceConfigData.getPaymentResponseTopicName();
+    }
+
+    @Override
+    public String retryGroupId() {
+        return kafkaConsumerConfigData.getPaymentConsumerGroupId() + "-retry";
+    }
+
+    @Override
+    public void receiveRetry(List<ConsumedRecord<SpecificRecordBase>> records) {
+        log.info("{} number of payment responses received for retry", records.size());
+        process(records);
+    }
+
+    private void process(List<ConsumedRecord<SpecificRecordBase>> records) {
+        keyOrderedBatchDispatcher.dispatch(records,
+                record -> orderMessagingDataMapper.paymentResponseOrderId(record.value()),
+                lane -> failedRecordRouter.processOrRoute(lane, this::paymentResponsesReceived));
+    }
+
+    private void paymentResponsesReceived(List<SpecificRecordBase> messages) {
+        List<PaymentResponse> paymentResponses = new ArrayList<>(messages.size());
+        for (SpecificRecordBase message : messages) {
+            PaymentResponse paymentResponse = orderMessagingDataMapper.paymentResponseToPaymentResponse(message);
+            if (PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus()
+                    || PaymentStatus.CANCELLED == paymentResponse.getPaymentStatus()) {
+                paymentResponses.add(paymentResponse);
+            } else {
+                log.warn("Payment response with status {} is ignored for order id: {}",
+                        paymentResponse.getPaymentStatus(), paymentResponse.getOrderId());
             }
-        });
+        }
+        if (!paymentResponses.isEmpty()) {
+            paymentResponseMessageListener.paymentResponsesReceived(paymentResponses);
+        }
     }
 }
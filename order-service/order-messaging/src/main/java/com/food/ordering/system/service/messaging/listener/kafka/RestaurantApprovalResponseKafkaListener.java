@@ -3,16 +3,25 @@ package com.food.ordering.system.service.messaging.listener.kafka;
 
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGES_DELIMITER;
 
+import com.food.ordering.system.domain.log.LogSampler;
+import com.food.ordering.system.domain.vo.OrderApprovalStatus;
+import com.food.ordering.system.kafaka.config.data.KafkaConsumerConfigData;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
-import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedBatchDispatcher;
+import com.food.ordering.system.kafka.consumer.retry.ConsumedRecord;
+import com.food.ordering.system.kafka.consumer.retry.FailedRecordRouter;
+import com.food.ordering.system.kafka.consumer.retry.RetryTopicConsumer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -20,16 +29,31 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<RestaurantApprovalResponseAvroModel> {
+public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<SpecificRecordBase>,
+        RetryTopicConsumer<SpecificRecordBase> {
+
+    private static final LogSampler BATCH_LOG_SAMPLER = new LogSampler(Duration.ofSeconds(1));
 
     private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedBatchDispatcher keyOrderedBatchDispatcher;
+    private final FailedRecordRouter failedRecordRouter;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
 
     public RestaurantApprovalResponseKafkaListener(
             RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
-            OrderMessagingDataMapper orderMessagingDataMapper) {
+            OrderMessagingDataMapper orderMessagingDataMapper,
+            KeyOrderedBatchDispatcher keyOrderedBatchDispatcher,
+            FailedRecordRouter failedRecordRouter,
+            OrderServiceConfigData orderServiceConfigData,
+            KafkaConsumerConfigData kafkaConsumerConfigData) {
         this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyOrderedBatchDispatcher = keyOrderedBatchDispatcher;
+        this.failedRecordRouter = failedRecordRouter;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
     }
 
     @Override
@@ -38,43 +62,58 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
             topics = "${order-service.restaurant-approval-response-topic-name}"
     )
     public void receive(
-            @Payload List<RestaurantApprovalResponseAvroModel> messages,
+            @Payload List<SpecificRecordBase> messages,
             @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
             @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-            @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
-        log.info("{} number of restaurant approval responses received with keys {}, partitions {} and offsets {}",
-                messages.size(), keys.toString(), partitions.toString(), offsets.toString());
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            @Header(name = KafkaHeaders.ACKNOWLEDGMENT, required = false) Acknowledgment acknowledgment
+    ) {
+        if (log.isDebugEnabled() && BATCH_LOG_SAMPLER.sample()) {
+            log.debug("{} number of restaurant approval responses received with keys {}, partitions {} and offsets {}",
+                    messages.size(), keys, partitions, offsets);
+        }
+
+        process(ConsumedRecord.of(orderServiceConfigData.getRestaurantApprovalResponseTopicName(), keys, messages));
+        // every lane has committed its transaction or routed its failed records at this point
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    @Override
+    public String topic() {
+        return orderServiceConfigData.getRestaurantApprovalResponseTopicName();
+    }
 
-        messages.forEach(restaurantApprovalResponseAvroModel -> {
-            try {
-                if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-                    log.info("Processing approved order for order id: {}",
-                            restaurantApprovalResponseAvroModel.getOrderId());
+    @Override
+    public String retryGroupId() {
+        return kafkaConsumerConfigData.getRestaurantApprovalConsumerGroupId() + "-retry";
+    }
+
+    @Override
+    public void receiveRetry(List<ConsumedRecord<SpecificRecordBase>> records) {
+        log.info("{} number of restaurant approval responses received for retry", records.size());
+        process(records);
+    }
 
-                    restaurantApprovalResponseMessageListener.orderApproved(
-                            orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(
-                                    restaurantApprovalResponseAvroModel)
-                    );
-                } else if (OrderApprovalStatus.REJECTED
-                        == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-                    log.info("Processing rejected order for order id: {}, with failure messages: {}",
-                            restaurantApprovalResponseAvroModel.getOrderId(),
-                            String.join(FAILURE_MESSAGES_DELIMITER,
-                                    restaurantApprovalResponseAvroModel.getFailureMessages()));
+    private void process(List<ConsumedRecord<SpecificRecordBase>> records) {
+        keyOrderedBatchDispatcher.dispatch(records,
+                record -> orderMessagingDataMapper.approvalResponseOrderId(record.value()),
+                lane -> failedRecordRouter.processOrRoute(lane, this::approvalResponsesReceived));
+    }
 
-                    restaurantApprovalResponseMessageListener.orderRejected(
-                            orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(
-                                    restaurantApprovalResponseAvroModel));
-                }
-            } catch (OptimisticLockingFailureException e) {
-                //NO-OP for optimistic lock. This means another thread finished the work, do not throw error to prevent reading the data from kafka again!
-                log.error(
-                        "Caught optimistic locking exception in RestaurantApprovalResponseKafkaListener for order id: {}",
-                        restaurantApprovalResponseAvroModel.getOrderId());
-            } catch (OrderNotFoundException e) {
-                //NO-OP for OrderNotFoundException
-                log.error("No order found for order id: {}", restaurantApprovalResponseAvroModel.getOrderId());
+    private void approvalResponsesReceived(List<SpecificRecordBase> messages) {
+        List<RestaurantApprovalResponse> restaurantApprovalResponses = new ArrayList<>(messages.size());
+        for (SpecificRecordBase message : messages) {
+            RestaurantApprovalResponse restaurantApprovalResponse =
+                    orderMessagingDataMapper.approvalResponseToApprovalResponse(message);
+            if (OrderApprovalStatus.REJECTED == restaurantApprovalResponse.getOrderApprovalStatus()) {
+                log.debug("Processing rejected order for order id: {}, with failure messages: {}",
+                        restaurantApprovalResponse.getOrderId(),
+                        String.join(FAILURE_MESSAGES_DELIMITER, restaurantApprovalResponse.getFailureMessages()));
             }
-        });
+            restaurantApprovalResponses.add(restaurantApprovalResponse);
+        }
+        restaurantApprovalResponseMessageListener.approvalResponsesReceived(restaurantApprovalResponses);
     }
 }
@@ -1,39 +1,99 @@
 package com.food.ordering.system.service.messaging.mapper;
 
 
+import com.food.ordering.system.domain.id.IdGenerator;
 import com.food.ordering.system.domain.vo.OrderApprovalStatus;
 import com.food.ordering.system.domain.vo.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.UuidConversions;
 import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModelV2;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModelV2;
 import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.ProductV2;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModelV2;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModelV2;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import java.time.Instant;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class OrderMessagingDataMapper {
 
+    private static final int AVRO_SCHEMA_V2 = 2;
+
+    private final IdGenerator idGenerator;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    /**
+     * Request mappings below pick the schema set configured with {@code order-service.avro-schema-version}, so the
+     * request topics are switched to v2 only once every consumer of them reads both versions.
+     */
+    public SpecificRecordBase orderCreateEventToPaymentRequest(OrderCreateEvent orderCreateEvent) {
+        return isAvroSchemaV2()
+                ? orderCreateEventToPaymentRequestAvroModelV2(orderCreateEvent)
+                : orderCreateEventToPaymentRequestAvroModel(orderCreateEvent);
+    }
+
+    public SpecificRecordBase orderCancelledEventToPaymentRequest(OrderCancelledEvent orderCancelledEvent) {
+        return isAvroSchemaV2()
+                ? orderCancelledEventToPaymentRequestAvroModelV2(orderCancelledEvent)
+                : orderCancelledEventToPaymentRequestAvroModel(orderCancelledEvent);
+    }
+
+    public SpecificRecordBase orderPaidEventToRestaurantApprovalRequest(OrderPaidEvent orderPaidEvent) {
+        return isAvroSchemaV2()
+                ? orderPaidEventToRestaurantApprovalRequestAvroModelV2(orderPaidEvent)
+                : orderPaidEventToRestaurantApprovalRequestAvroModel(orderPaidEvent);
+    }
+
+    public SpecificRecordBase orderPaymentEventPayloadToPaymentRequest(
+            UUID outboxMessageId,
+            OrderPaymentEventPayload orderPaymentEventPayload
+    ) {
+        return isAvroSchemaV2()
+                ? orderPaymentEventPayloadToPaymentRequestAvroModelV2(outboxMessageId, orderPaymentEventPayload)
+                : orderPaymentEventPayloadToPaymentRequestAvroModel(outboxMessageId, orderPaymentEventPayload);
+    }
+
+    public SpecificRecordBase orderApprovalEventPayloadToRestaurantApprovalRequest(
+            UUID outboxMessageId,
+            OrderApprovalEventPayload orderApprovalEventPayload
+    ) {
+        return isAvroSchemaV2()
+                ? orderApprovalEventPayloadToRestaurantApprovalRequestAvroModelV2(outboxMessageId,
+                        orderApprovalEventPayload)
+                : orderApprovalEventPayloadToRestaurantApprovalRequestAvroModel(outboxMessageId,
+                        orderApprovalEventPayload);
+    }
 
     public PaymentRequestAvroModel orderCreateEventToPaymentRequestAvroModel(OrderCreateEvent orderCreateEvent) {
         Order order = orderCreateEvent.getOrder();
 
         return PaymentRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(idGenerator.generate().toString())
                 .setSagaId("")
                 .setCustomerId(order.getCustomerId().getValue().toString())
                 .setOrderId(order.getId().getValue().toString())
                 .setPrice(order.getPrice().getAmount())
-                .setCreatedAt(orderCreateEvent.getCreatedAt().toInstant())
+                .setCreatedAt(orderCreateEvent.getCreatedAt())
                 .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
                 .build();
     }
@@ -45,12 +105,12 @@ public class OrderMessagingDataMapper {
         Order order = orderCancelledEvent.getOrder();
 
         return PaymentRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(idGenerator.generate().toString())
                 .setSagaId("")
                 .setCustomerId(order.getCustomerId().getValue().toString())
                 .setOrderId(order.getId().getValue().toString())
                 .setPrice(order.getPrice().getAmount())
-                .setCreatedAt(orderCancelledEvent.getCreatedAt().toInstant())
+                .setCreatedAt(orderCancelledEvent.getCreatedAt())
                 .setPaymentOrderStatus(PaymentOrderStatus.CANCELLED)
                 .build();
     }
@@ -61,7 +121,7 @@ public class OrderMessagingDataMapper {
         Order order = orderPaidEvent.getOrder();
 
         return RestaurantApprovalRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(idGenerator.generate().toString())
                 .setSagaId("")
                 .setOrderId(order.getId().getValue().toString())
                 .setRestaurantId(order.getRestaurantId().getValue().toString())
@@ -74,17 +134,163 @@ public class OrderMessagingDataMapper {
                                 .collect(Collectors.toList())
                 )
                 .setPrice(order.getPrice().getAmount())
-                .setCreatedAt(orderPaidEvent.getCreatedAt().toInstant())
+                .setCreatedAt(orderPaidEvent.getCreatedAt())
                 .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
                 .build();
     }
 
+    public PaymentRequestAvroModel orderPaymentEventPayloadToPaymentRequestAvroModel(
+            UUID outboxMessageId,
+            OrderPaymentEventPayload orderPaymentEventPayload
+    ) {
+        return PaymentRequestAvroModel.newBuilder()
+                .setId(outboxMessageId.toString())
+                .setSagaId("")
+                .setCustomerId(orderPaymentEventPayload.getCustomerId())
+                .setOrderId(orderPaymentEventPayload.getOrderId())
+                .setPrice(orderPaymentEventPayload.getPrice())
+                .setCreatedAt(orderPaymentEventPayload.getCreatedAt())
+                .setPaymentOrderStatus(PaymentOrderStatus.valueOf(orderPaymentEventPayload.getPaymentOrderStatus()))
+                .build();
+    }
+
+    public RestaurantApprovalRequestAvroModel orderApprovalEventPayloadToRestaurantApprovalRequestAvroModel(
+            UUID outboxMessageId,
+            OrderApprovalEventPayload orderApprovalEventPayload
+    ) {
+        return RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(outboxMessageId.toString())
+                .setSagaId("")
+                .setOrderId(orderApprovalEventPayload.getOrderId())
+                .setRestaurantId(orderApprovalEventPayload.getRestaurantId())
+                .setProducts(
+                        orderApprovalEventPayload.getProducts().stream()
+                                .map(product -> Product.newBuilder()
+                                        .setId(product.getId())
+                                        .setQuantity(product.getQuantity())
+                                        .build())
+                                .collect(Collectors.toList())
+                )
+                .setPrice(orderApprovalEventPayload.getPrice())
+                .setCreatedAt(orderApprovalEventPayload.getCreatedAt())
+                .setRestaurantOrderStatus(
+                        RestaurantOrderStatus.valueOf(orderApprovalEventPayload.getRestaurantOrderStatus()))
+                .build();
+    }
+
+    public PaymentRequestAvroModelV2 orderCreateEventToPaymentRequestAvroModelV2(OrderCreateEvent orderCreateEvent) {
+        return paymentRequestAvroModelV2(orderCreateEvent.getOrder(), orderCreateEvent.getCreatedAt(),
+                PaymentOrderStatus.PENDING);
+    }
+
+    public PaymentRequestAvroModelV2 orderCancelledEventToPaymentRequestAvroModelV2(
+            OrderCancelledEvent orderCancelledEvent
+    ) {
+        return paymentRequestAvroModelV2(orderCancelledEvent.getOrder(), orderCancelledEvent.getCreatedAt(),
+                PaymentOrderStatus.CANCELLED);
+    }
+
+    public RestaurantApprovalRequestAvroModelV2 orderPaidEventToRestaurantApprovalRequestAvroModelV2(
+            OrderPaidEvent orderPaidEvent
+    ) {
+        Order order = orderPaidEvent.getOrder();
+
+        return RestaurantApprovalRequestAvroModelV2.newBuilder()
+                .setId(UuidConversions.toFixed(idGenerator.generate()))
+                .setSagaId(null)
+                .setOrderId(UuidConversions.toFixed(order.getId().getValue()))
+                .setRestaurantId(UuidConversions.toFixed(order.getRestaurantId().getValue()))
+                .setProducts(
+                        order.getItems().stream()
+                                .map(orderItem -> ProductV2.newBuilder()
+                                        .setId(UuidConversions.toFixed(orderItem.getProduct().getId().getValue()))
+                                        .setQuantity(orderItem.getQuantity())
+                                        .build())
+                                .collect(Collectors.toList())
+                )
+                .setPrice(order.getPrice().getAmount())
+                .setCreatedAt(orderPaidEvent.getCreatedAt())
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .build();
+    }
+
+    public PaymentRequestAvroModelV2 orderPaymentEventPayloadToPaymentRequestAvroModelV2(
+            UUID outboxMessageId,
+            OrderPaymentEventPayload orderPaymentEventPayload
+    ) {
+        return PaymentRequestAvroModelV2.newBuilder()
+                .setId(UuidConversions.toFixed(outboxMessageId))
+                .setSagaId(null)
+                .setCustomerId(UuidConversions.toFixed(orderPaymentEventPayload.getCustomerId()))
+                .setOrderId(UuidConversions.toFixed(orderPaymentEventPayload.getOrderId()))
+                .setPrice(orderPaymentEventPayload.getPrice())
+                .setCreatedAt(orderPaymentEventPayload.getCreatedAt())
+                .setPaymentOrderStatus(PaymentOrderStatus.valueOf(orderPaymentEventPayload.getPaymentOrderStatus()))
+                .build();
+    }
+
+    public RestaurantApprovalRequestAvroModelV2 orderApprovalEventPayloadToRestaurantApprovalRequestAvroModelV2(
+            UUID outboxMessageId,
+            OrderApprovalEventPayload orderApprovalEventPayload
+    ) {
+        return RestaurantApprovalRequestAvroModelV2.newBuilder()
+                .setId(UuidConversions.toFixed(outboxMessageId))
+                .setSagaId(null)
+                .setOrderId(UuidConversions.toFixed(orderApprovalEventPayload.getOrderId()))
+                .setRestaurantId(UuidConversions.toFixed(orderApprovalEventPayload.getRestaurantId()))
+                .setProducts(
+                        orderApprovalEventPayload.getProducts().stream()
+                                .map(product -> ProductV2.newBuilder()
+                                        .setId(UuidConversions.toFixed(product.getId()))
+                                        .setQuantity(product.getQuantity())
+                                        .build())
+                                .collect(Collectors.toList())
+                )
+                .setPrice(orderApprovalEventPayload.getPrice())
+                .setCreatedAt(orderApprovalEventPayload.getCreatedAt())
+                .setRestaurantOrderStatus(
+                        RestaurantOrderStatus.valueOf(orderApprovalEventPayload.getRestaurantOrderStatus()))
+                .build();
+    }
+
+    /**
+     * Response topics carry v1 and v2 records side by side while the payment and restaurant services migrate, the
+     * schema registry deserializer hands out whichever version the record was written with.
+     */
+    public PaymentResponse paymentResponseToPaymentResponse(SpecificRecordBase message) {
+        if (message instanceof PaymentResponseAvroModelV2 paymentResponseAvroModelV2) {
+            return paymentResponseAvroModelV2ToPaymentResponse(paymentResponseAvroModelV2);
+        }
+        return paymentResponseAvroModelToPaymentResponse((PaymentResponseAvroModel) message);
+    }
+
+    public RestaurantApprovalResponse approvalResponseToApprovalResponse(SpecificRecordBase message) {
+        if (message instanceof RestaurantApprovalResponseAvroModelV2 restaurantApprovalResponseAvroModelV2) {
+            return approvalResponseAvroModelV2ToApprovalResponse(restaurantApprovalResponseAvroModelV2);
+        }
+        return approvalResponseAvroModelToApprovalResponse((RestaurantApprovalResponseAvroModel) message);
+    }
+
+    public String paymentResponseOrderId(SpecificRecordBase message) {
+        if (message instanceof PaymentResponseAvroModelV2 paymentResponseAvroModelV2) {
+            return UuidConversions.toUuidString(paymentResponseAvroModelV2.getOrderId());
+        }
+        return ((PaymentResponseAvroModel) message).getOrderId();
+    }
+
+    public String approvalResponseOrderId(SpecificRecordBase message) {
+        if (message instanceof RestaurantApprovalResponseAvroModelV2 restaurantApprovalResponseAvroModelV2) {
+            return UuidConversions.toUuidString(restaurantApprovalResponseAvroModelV2.getOrderId());
+        }
+        return ((RestaurantApprovalResponseAvroModel) message).getOrderId();
+    }
+
     public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel message) {
         return PaymentResponse.builder()
-                .id(message.getId())
+                .id(messageId(message.getId()))
                 .sagaId(message.getSagaId())
                 .paymentId(message.getPaymentId())
-                .orderId(message.getOrderId())
+                .orderId(UUID.fromString(message.getOrderId()))
                 .customerId(message.getCustomerId())
                 .price(message.getPrice())
                 .createdAt(message.getCreatedAt())
@@ -98,14 +304,73 @@ public class OrderMessagingDataMapper {
     ) {
 
         return RestaurantApprovalResponse.builder()
-                .id(restaurantApprovalResponseAvroModel.getId())
+                .id(messageId(restaurantApprovalResponseAvroModel.getId()))
                 .sagaId(restaurantApprovalResponseAvroModel.getSagaId())
                 .restaurantId(restaurantApprovalResponseAvroModel.getRestaurantId())
-                .orderId(restaurantApprovalResponseAvroModel.getOrderId())
+                .orderId(UUID.fromString(restaurantApprovalResponseAvroModel.getOrderId()))
                 .createdAt(restaurantApprovalResponseAvroModel.getCreatedAt())
                 .orderApprovalStatus(OrderApprovalStatus.valueOf(
                         restaurantApprovalResponseAvroModel.getOrderApprovalStatus().name()))
                 .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
                 .build();
     }
+
+    public PaymentResponse paymentResponseAvroModelV2ToPaymentResponse(PaymentResponseAvroModelV2 message) {
+        return PaymentResponse.builder()
+                .id(UuidConversions.toUuid(message.getId()))
+                .sagaId(UuidConversions.toUuidString(message.getSagaId()))
+                .paymentId(UuidConversions.toUuidString(message.getPaymentId()))
+                .orderId(UuidConversions.toUuid(message.getOrderId()))
+                .customerId(UuidConversions.toUuidString(message.getCustomerId()))
+                .price(message.getPrice())
+                .createdAt(message.getCreatedAt())
+                .paymentStatus(PaymentStatus.valueOf(message.getPaymentStatus().name()))
+                .failureMessages(message.getFailureMessages())
+                .build();
+    }
+
+    public RestaurantApprovalResponse approvalResponseAvroModelV2ToApprovalResponse(
+            RestaurantApprovalResponseAvroModelV2 restaurantApprovalResponseAvroModelV2
+    ) {
+        return RestaurantApprovalResponse.builder()
+                .id(UuidConversions.toUuid(restaurantApprovalResponseAvroModelV2.getId()))
+                .sagaId(UuidConversions.toUuidString(restaurantApprovalResponseAvroModelV2.getSagaId()))
+                .restaurantId(UuidConversions.toUuidString(restaurantApprovalResponseAvroModelV2.getRestaurantId()))
+                .orderId(UuidConversions.toUuid(restaurantApprovalResponseAvroModelV2.getOrderId()))
+                .createdAt(restaurantApprovalResponseAvroModelV2.getCreatedAt())
+                .orderApprovalStatus(OrderApprovalStatus.valueOf(
+                        restaurantApprovalResponseAvroModelV2.getOrderApprovalStatus().name()))
+                .failureMessages(restaurantApprovalResponseAvroModelV2.getFailureMessages())
+                .build();
+    }
+
+    private UUID messageId(String messageId) {
+        // v1 producers are not required to send UUID ids; such messages are passed on without inbox deduplication
+        if (messageId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(messageId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private PaymentRequestAvroModelV2 paymentRequestAvroModelV2(Order order,
+                                                                Instant createdAt,
+                                                                PaymentOrderStatus paymentOrderStatus) {
+        return PaymentRequestAvroModelV2.newBuilder()
+                .setId(UuidConversions.toFixed(idGenerator.generate()))
+                .setSagaId(null)
+                .setCustomerId(UuidConversions.toFixed(order.getCustomerId().getValue()))
+                .setOrderId(UuidConversions.toFixed(order.getId().getValue()))
+                .setPrice(order.getPrice().getAmount())
+                .setCreatedAt(createdAt)
+                .setPaymentOrderStatus(paymentOrderStatus)
+                .build();
+    }
+
+    private boolean isAvroSchemaV2() {
+        return orderServiceConfigData.getAvroSchemaVersion() == AVRO_SCHEMA_V2;
+    }
 }
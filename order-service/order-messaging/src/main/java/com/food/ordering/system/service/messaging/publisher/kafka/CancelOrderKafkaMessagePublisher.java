@@ -1,12 +1,12 @@
 package com.food.ordering.system.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,12 +15,12 @@ public class CancelOrderKafkaMessagePublisher implements OrderCancelledPaymentRe
 
     private final OrderMessagingDataMapper orderMessagingDataMapper;
     private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
 
     public CancelOrderKafkaMessagePublisher(
             OrderMessagingDataMapper orderMessagingDataMapper,
             OrderServiceConfigData orderServiceConfigData,
-            KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer
+            KafkaProducer<String, SpecificRecordBase> kafkaProducer
     ) {
         this.orderMessagingDataMapper = orderMessagingDataMapper;
         this.orderServiceConfigData = orderServiceConfigData;
@@ -30,11 +30,11 @@ public class CancelOrderKafkaMessagePublisher implements OrderCancelledPaymentRe
     @Override
     public void publish(OrderCancelledEvent domainEvent) {
         String orderId = domainEvent.getOrder().getId().getValue().toString();
-        log.info("Received OrderCancelledEvent for order id: {}", orderId);
+        log.debug("Received OrderCancelledEvent for order id: {}", orderId);
 
         try {
-            PaymentRequestAvroModel paymentRequestAvroModel
-                    = orderMessagingDataMapper.orderCancelledEventToPaymentRequestAvroModel(domainEvent);
+            SpecificRecordBase paymentRequestAvroModel
+                    = orderMessagingDataMapper.orderCancelledEventToPaymentRequest(domainEvent);
 
             kafkaProducer.send(
                     orderServiceConfigData.getPaymentRequestTopicName(),
@@ -43,7 +43,7 @@ public class CancelOrderKafkaMessagePublisher implements OrderCancelledPaymentRe
                     getKafkaCallback(orderServiceConfigData.getPaymentResponseTopicName(), orderId, paymentRequestAvroModel, log)
             );
 
-            log.info("PaymentRequestAvroModel sent to Kafka for orderId: {} ", paymentRequestAvroModel.getOrderId());
+            log.debug("PaymentRequestAvroModel sent to Kafka for orderId: {} ", orderId);
         } catch (Exception e) {
             log.error("Error while sending PaymentRequestAvroModel message to kafka with order id: {}, error: {}",
                     orderId, e.getMessage());
@@ -1,12 +1,15 @@
 package com.food.ordering.system.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedRecord;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderCreateEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
@@ -18,12 +21,12 @@ public class CreateOrderKafkaMessagePublisher implements OrderCreatedPaymentRequ
 
     private final OrderMessagingDataMapper orderMessagingDataMapper;
     private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
 
     public CreateOrderKafkaMessagePublisher(
             OrderMessagingDataMapper orderMessagingDataMapper,
             OrderServiceConfigData orderServiceConfigData,
-            KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer
+            KafkaProducer<String, SpecificRecordBase> kafkaProducer
     ) {
         this.orderMessagingDataMapper = orderMessagingDataMapper;
         this.orderServiceConfigData = orderServiceConfigData;
@@ -33,31 +36,56 @@ public class CreateOrderKafkaMessagePublisher implements OrderCreatedPaymentRequ
     @Override
     public void publish(OrderCreateEvent domainEvent) {
         String orderId = domainEvent.getOrder().getId().getValue().toString();
-        log.info("Received OrderCreatedEvent for order id: {}", orderId);
+        log.debug("Received OrderCreatedEvent for order id: {}", orderId);
 
         try {
-            PaymentRequestAvroModel paymentRequestAvroModel
-                    = orderMessagingDataMapper.orderCreateEventToPaymentRequestAvroModel(domainEvent);
+            SpecificRecordBase paymentRequestAvroModel
+                    = orderMessagingDataMapper.orderCreateEventToPaymentRequest(domainEvent);
 
             kafkaProducer.send(
                     orderServiceConfigData.getPaymentRequestTopicName(),
                     orderId,
                     paymentRequestAvroModel,
-                    getKafkaCallback(orderServiceConfigData.getPaymentResponseTopicName(), paymentRequestAvroModel)
+                    getKafkaCallback(orderServiceConfigData.getPaymentResponseTopicName(), orderId,
+                            paymentRequestAvroModel)
             );
 
-            log.info("PaymentRequestAvroModel sent to Kafka for orderId: {} ", paymentRequestAvroModel.getOrderId());
+            log.debug("PaymentRequestAvroModel sent to Kafka for orderId: {} ", orderId);
         } catch (Exception e) {
             log.error("Error while sending PaymentRequestAvroModel message to kafka with order id: {}, error: {}",
                     orderId, e.getMessage());
         }
     }
 
-    private ListenableFutureCallback<SendResult<String, PaymentRequestAvroModel>> getKafkaCallback(
+    @Override
+    public void publishAll(List<OrderCreateEvent> domainEvents) {
+        log.debug("Received {} OrderCreatedEvents", domainEvents.size());
+        String paymentRequestTopicName = orderServiceConfigData.getPaymentRequestTopicName();
+
+        List<KeyedRecord<String, SpecificRecordBase>> records = new ArrayList<>(domainEvents.size());
+        for (OrderCreateEvent domainEvent : domainEvents) {
+            String orderId = domainEvent.getOrder().getId().getValue().toString();
+            try {
+                records.add(new KeyedRecord<>(orderId,
+                        orderMessagingDataMapper.orderCreateEventToPaymentRequest(domainEvent)));
+            } catch (Exception e) {
+                log.error("Error while mapping PaymentRequestAvroModel message with order id: {}, error: {}",
+                        orderId, e.getMessage());
+            }
+        }
+
+        // the records are appended back to back so the producer can pack them into as few record batches as possible
+        kafkaProducer.sendAll(paymentRequestTopicName, records).thenAccept(batchSendResult ->
+                log.debug("{} of {} PaymentRequestAvroModels sent to Kafka",
+                        batchSendResult.size() - batchSendResult.getFailedCount(), domainEvents.size()));
+    }
+
+    private ListenableFutureCallback<SendResult<String, SpecificRecordBase>> getKafkaCallback(
             String paymentResponseTopicName,
-            PaymentRequestAvroModel paymentRequestAvroModel
+            String orderId,
+            SpecificRecordBase paymentRequestAvroModel
     ) {
-        return new ListenableFutureCallback<SendResult<String, PaymentRequestAvroModel>>() {
+        return new ListenableFutureCallback<SendResult<String, SpecificRecordBase>>() {
             @Override
             public void onFailure(Throwable ex) {
                 log.error("Error while sending paymentRequestAvroModel message {} to topic {}",
@@ -65,11 +93,14 @@ public class CreateOrderKafkaMessagePublisher implements OrderCreatedPaymentRequ
             }
 
             @Override
-            public void onSuccess(SendResult<String, PaymentRequestAvroModel> result) {
+            public void onSuccess(SendResult<String, SpecificRecordBase> result) {
+                if (!log.isDebugEnabled()) {
+                    return;
+                }
                 RecordMetadata metadata = result.getRecordMetadata();
-                log.info(
+                log.debug(
                         "Received successful response from Kafka for order id: {} Topic: {},  Partition: {}, Offset: {}, Timestamp: {}",
-                        paymentRequestAvroModel.getOrderId(),
+                        orderId,
                         paymentResponseTopicName,
                         metadata.partition(),
                         metadata.offset(),
@@ -23,10 +23,13 @@ public interface KafkaCallbackInterface {
 
             @Override
             public void onSuccess(SendResult<K, V> result) {
+                if (!log.isDebugEnabled()) {
+                    return;
+                }
                 RecordMetadata metadata = result.getRecordMetadata();
-                log.info(
+                log.debug(
                         "Received successful response from Kafka for order id: {} Topic: {}, Partition: {}, Offset: {}, Timestamp: {}",
-                        key.toString(),
+                        key,
                         metadata.topic(),
                         metadata.partition(),
                         metadata.offset(),
@@ -0,0 +1,138 @@
+package com.food.ordering.system.service.messaging.publisher.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.producer.service.BatchSendResult;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedRecord;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxPublishResult;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
+import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OrderOutboxKafkaMessagePublisher implements OrderOutboxMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+    private final ObjectMapper objectMapper;
+
+    public OrderOutboxKafkaMessagePublisher(
+            OrderMessagingDataMapper orderMessagingDataMapper,
+            OrderServiceConfigData orderServiceConfigData,
+            KafkaProducer<String, SpecificRecordBase> kafkaProducer,
+            ObjectMapper objectMapper
+    ) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaProducer = kafkaProducer;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Maps the messages per target topic and appends each group with one {@link KafkaProducer#sendAll} call, then
+     * flushes the producer once so the acks are not held back by linger.ms. Messages that can not be mapped are
+     * rejected, as mapping them again would fail the same way and keep them at the head of every claim. Messages that
+     * were not acknowledged in time stay unpublished.
+     */
+    @Override
+    public OutboxPublishResult publish(List<OrderOutboxMessage> outboxMessages) {
+        List<UUID> paymentRequestIds = new ArrayList<>();
+        List<KeyedRecord<String, SpecificRecordBase>> paymentRequests = new ArrayList<>();
+        List<UUID> restaurantApprovalRequestIds = new ArrayList<>();
+        List<KeyedRecord<String, SpecificRecordBase>> restaurantApprovalRequests = new ArrayList<>();
+        List<UUID> rejectedIds = new ArrayList<>();
+        for (OrderOutboxMessage outboxMessage : outboxMessages) {
+            String orderId = outboxMessage.getOrderId().toString();
+            try {
+                switch (outboxMessage.getType()) {
+                    case PAYMENT_REQUEST -> {
+                        paymentRequests.add(new KeyedRecord<>(orderId,
+                                orderMessagingDataMapper.orderPaymentEventPayloadToPaymentRequest(
+                                        outboxMessage.getId(),
+                                        readPayload(outboxMessage, OrderPaymentEventPayload.class))));
+                        paymentRequestIds.add(outboxMessage.getId());
+                    }
+                    case RESTAURANT_APPROVAL_REQUEST -> {
+                        restaurantApprovalRequests.add(new KeyedRecord<>(orderId,
+                                orderMessagingDataMapper.orderApprovalEventPayloadToRestaurantApprovalRequest(
+                                        outboxMessage.getId(),
+                                        readPayload(outboxMessage, OrderApprovalEventPayload.class))));
+                        restaurantApprovalRequestIds.add(outboxMessage.getId());
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Error while mapping outbox message with id: {} for order id: {}, error: {}",
+                        outboxMessage.getId(), outboxMessage.getOrderId(), e.getMessage(), e);
+                rejectedIds.add(outboxMessage.getId());
+            }
+        }
+
+        CompletableFuture<BatchSendResult<String, SpecificRecordBase>> paymentRequestResult =
+                kafkaProducer.sendAll(orderServiceConfigData.getPaymentRequestTopicName(), paymentRequests);
+        CompletableFuture<BatchSendResult<String, SpecificRecordBase>> restaurantApprovalRequestResult =
+                kafkaProducer.sendAll(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+                        restaurantApprovalRequests);
+        kafkaProducer.flush();
+        awaitAcks(paymentRequestResult, restaurantApprovalRequestResult);
+
+        List<UUID> publishedIds = new ArrayList<>(outboxMessages.size());
+        addPublishedIds(publishedIds, paymentRequestIds, paymentRequestResult);
+        addPublishedIds(publishedIds, restaurantApprovalRequestIds, restaurantApprovalRequestResult);
+        return new OutboxPublishResult(publishedIds, rejectedIds);
+    }
+
+    private <T> T readPayload(OrderOutboxMessage outboxMessage, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(outboxMessage.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new OrderDomainException("Could not read " + payloadType.getSimpleName()
+                    + " of outbox message with id: " + outboxMessage.getId(), e);
+        }
+    }
+
+    private void addPublishedIds(List<UUID> publishedIds,
+                                 List<UUID> outboxMessageIds,
+                                 CompletableFuture<? extends BatchSendResult<?, ?>> sendResult) {
+        if (!sendResult.isDone()) {
+            return;
+        }
+        BatchSendResult<?, ?> batchSendResult = sendResult.join();
+        for (int i = 0; i < batchSendResult.size(); i++) {
+            if (batchSendResult.isSent(i)) {
+                publishedIds.add(outboxMessageIds.get(i));
+            } else {
+                log.error("Error while sending outbox message with id: {}, error: {}",
+                        outboxMessageIds.get(i), batchSendResult.getFailure(i).getMessage());
+            }
+        }
+    }
+
+    private void awaitAcks(CompletableFuture<?>... sendResults) {
+        try {
+            CompletableFuture.allOf(sendResults)
+                    .get(orderServiceConfigData.getOutboxPublishTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // a batch that is still in flight is not marked, its messages are published again by the next run
+            log.warn("Not all outbox messages were acknowledged: {}", e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.food.ordering.system.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedRecord;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.service.messaging.mapper.OrderMessagingDataMapper;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,12 +18,12 @@ public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequest
 
     private final OrderMessagingDataMapper orderMessagingDataMapper;
     private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
 
     public PayOrderKafkaMessagePublisher(
             OrderMessagingDataMapper orderMessagingDataMapper,
             OrderServiceConfigData orderServiceConfigData,
-            KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer
+            KafkaProducer<String, SpecificRecordBase> kafkaProducer
     ) {
         this.orderMessagingDataMapper = orderMessagingDataMapper;
         this.orderServiceConfigData = orderServiceConfigData;
@@ -32,25 +35,47 @@ public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequest
         String orderId = domainEvent.getOrder().getId().getValue().toString();
 
         try {
-            RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel
-                    = orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent);
+            SpecificRecordBase restaurantApprovalRequestAvroModel
+                    = orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequest(domainEvent);
 
             kafkaProducer.send(
-                    orderServiceConfigData.getPaymentRequestTopicName(),
+                    orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
                     orderId,
                     restaurantApprovalRequestAvroModel,
                     getKafkaCallback(
-                            orderServiceConfigData.getPaymentRequestTopicName(),
+                            orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
                             orderId,
                             restaurantApprovalRequestAvroModel,
                             log
                     )
             );
 
-            log.info("RestaurantApprovalRequestAvroModel send to Kafka for order id: {}", orderId);
+            log.debug("RestaurantApprovalRequestAvroModel send to Kafka for order id: {}", orderId);
         } catch (Exception e) {
             log.error("Error while sending RestaurantApprovalRequestAvroModel message to kafka with order id: {}, error: {}",
                     orderId, e.getMessage());
         }
     }
+
+    @Override
+    public void publishAll(List<OrderPaidEvent> domainEvents) {
+        log.debug("Received {} OrderPaidEvents", domainEvents.size());
+        String restaurantApprovalRequestTopicName = orderServiceConfigData.getRestaurantApprovalRequestTopicName();
+
+        List<KeyedRecord<String, SpecificRecordBase>> records = new ArrayList<>(domainEvents.size());
+        for (OrderPaidEvent domainEvent : domainEvents) {
+            String orderId = domainEvent.getOrder().getId().getValue().toString();
+            try {
+                records.add(new KeyedRecord<>(orderId,
+                        orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequest(domainEvent)));
+            } catch (Exception e) {
+                log.error("Error while mapping RestaurantApprovalRequestAvroModel message with order id: {}, error: {}",
+                        orderId, e.getMessage());
+            }
+        }
+
+        kafkaProducer.sendAll(restaurantApprovalRequestTopicName, records).thenAccept(batchSendResult ->
+                log.debug("{} of {} RestaurantApprovalRequestAvroModels sent to Kafka",
+                        batchSendResult.size() - batchSendResult.getFailedCount(), domainEvents.size()));
+    }
 }